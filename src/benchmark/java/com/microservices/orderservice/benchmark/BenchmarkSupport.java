@@ -0,0 +1,105 @@
+package com.microservices.orderservice.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.entity.OrderLine;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Orders and logging set-up shared by the benchmarks that run without a Spring context.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkSupport() {
+
+    }
+
+    /**
+     * Creates a persisted-looking order whose lines reference the products 1 to orderLineCount.
+     *
+     * @param orderId        The ID of the order.
+     * @param orderLineCount The number of order lines.
+     * @return The order.
+     */
+    static Order newOrder(long orderId, int orderLineCount) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCreatedDate(LocalDateTime.now());
+        order.setModifiedDate(LocalDateTime.now());
+        order.setTotalPrice(orderLineCount * 1000L);
+        List<OrderLine> orderLineList = new ArrayList<>(orderLineCount);
+        for (int i = 0; i < orderLineCount; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setOrderLineId(orderId * orderLineCount + i);
+            orderLine.setProductId((long) i + 1);
+            orderLine.setQuantity(1);
+            orderLine.setProductName("Product " + (i + 1));
+            orderLine.setUnitPrice(1000L);
+            orderLine.setOrder(order);
+            orderLineList.add(orderLine);
+        }
+        order.setOrderLineList(orderLineList);
+        return order;
+    }
+
+    /**
+     * Creates a valid order request whose lines reference the products 1 to orderLineCount.
+     *
+     * @param orderLineCount The number of order lines.
+     * @return The OrderDto.
+     */
+    static OrderDto newOrderDto(int orderLineCount) {
+        List<OrderLineDto> orderLineDtoList = new ArrayList<>(orderLineCount);
+        for (int i = 0; i < orderLineCount; i++) {
+            orderLineDtoList.add(new OrderLineDto(null, (long) i + 1, 2, null, null, null));
+        }
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCreatedDate(LocalDateTime.now());
+        orderDto.setModifiedDate(LocalDateTime.now());
+        orderDto.setOrderLineDtoList(orderLineDtoList);
+        return orderDto;
+    }
+
+    /**
+     * Replaces the default console logging with an appender that formats every event like the Spring Boot
+     * console pattern and discards the output, so that the cost of building log messages is measured
+     * without the cost of writing them.
+     *
+     * @param level The level of the root logger.
+     */
+    static void configureLogging(String level) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level --- [%t] %logger{39} : %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger rootLogger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.toLevel(level));
+        rootLogger.addAppender(appender);
+    }
+}
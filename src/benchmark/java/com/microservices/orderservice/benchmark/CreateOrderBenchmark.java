@@ -0,0 +1,102 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.config.ProductLookupProperties;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.repository.OutboxEventRepository;
+import com.microservices.orderservice.service.impl.DirectProductFetcher;
+import com.microservices.orderservice.service.impl.JpaOrderEventOutbox;
+import com.microservices.orderservice.service.impl.OrderServiceImpl;
+import com.microservices.orderservice.service.impl.ProductPriceResolverImpl;
+import com.microservices.orderservice.service.mapper.OrderLineMapperImpl;
+import com.microservices.orderservice.service.mapper.OrderMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code OrderServiceImpl.createOrder} without its remote calls: the PRODUCT-SERVICE is a stub that
+ * answers immediately on the calling thread and the repository returns the order it is given, so that the
+ * report covers product resolution, price computation, mapping, serializing the outbox event and logging.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CreateOrderBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per order.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class CreateOrderBenchmark {
+
+    /**
+     * The number of order lines of the created order, each for a different product.
+     */
+    @Param({"10", "100", "1000"})
+    private int orderLineCount;
+
+    private OrderServiceImpl orderService;
+    private OrderDto orderDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.configureLogging("INFO");
+        Map<Long, ProductDto> products = new HashMap<>();
+        for (long productId = 1; productId <= orderLineCount; productId++) {
+            products.put(productId, new ProductDto(productId, "Product " + productId, 1000L));
+        }
+        ProductServiceProxy productServiceProxy = new ProductServiceProxy() {
+            @Override
+            public ResponseEntity<ProductDto> getProductById(Long productId) {
+                return ResponseEntity.ok(products.get(productId));
+            }
+
+            @Override
+            public ResponseEntity<List<ProductDto>> getProductsByIds(Collection<Long> productIds) {
+                return ResponseEntity.ok(productIds.stream().map(products::get).toList());
+            }
+        };
+        ProductPriceResolverImpl productPriceResolver = new ProductPriceResolverImpl(
+                new DirectProductFetcher(productServiceProxy, Runnable::run), new ProductLookupProperties());
+        JpaOrderEventOutbox orderEventOutbox = new JpaOrderEventOutbox(savingRepository(OutboxEventRepository.class),
+                                                                       Jackson2ObjectMapperBuilder.json().build());
+        orderService = new OrderServiceImpl(new OrderMapperImpl(), new OrderLineMapperImpl(),
+                                            savingRepository(OrderRepository.class), productPriceResolver,
+                                            null, null, null, null, null, orderEventOutbox);
+        orderDto = BenchmarkSupport.newOrderDto(orderLineCount);
+    }
+
+    @Benchmark
+    public OrderDto createOrder() {
+        return orderService.createOrder(orderDto);
+    }
+
+    /**
+     * Returns a repository whose save method returns the entity it is given.
+     */
+    private static <T> T savingRepository(Class<T> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if ("save".equals(method.getName())) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,111 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.OrderServiceApplication;
+import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.entity.OrderLine;
+import com.microservices.orderservice.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many rows per second {@code orderRepository.save(order)} inserts into an embedded H2 database,
+ * with the previous IDENTITY ids (one statement per row) and with the pooled sequence ids (JDBC batches).
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderInsertBenchmark"};
+ * the {@code rows} line of the report is the number of inserted rows per second.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    /**
+     * The id generation mapping: {@code identity} applies the IDENTITY override, {@code pooled} the entity annotations.
+     */
+    @Param({"identity", "pooled"})
+    private String idGeneration;
+
+    /**
+     * The number of order lines saved with every order.
+     */
+    @Param({"10", "50"})
+    private int orderLineCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Counts the rows inserted by the benchmark, reported by JMH as rows per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class InsertedRows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:orders-" + idGeneration + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.cloud.config.enabled=false",
+                "--spring.devtools.restart.enabled=false",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN"));
+        if ("identity".equals(idGeneration)) {
+            args.add("--spring.jpa.mapping-resources=META-INF/identity-ids-orm.xml");
+        }
+        context = new SpringApplicationBuilder(OrderServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+        orderRepository = context.getBean(OrderRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearOrders() {
+        jdbcTemplate.update("delete from order_line");
+        jdbcTemplate.update("delete from order_tbl");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order saveOrder(InsertedRows insertedRows) {
+        Order order = new Order();
+        order.setTotalPrice(orderLineCount);
+        List<OrderLine> orderLineList = new ArrayList<>(orderLineCount);
+        for (int i = 0; i < orderLineCount; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setProductId((long) i + 1);
+            orderLine.setQuantity(1);
+            orderLine.setOrder(order);
+            orderLineList.add(orderLine);
+        }
+        order.setOrderLineList(orderLineList);
+        Order savedOrder = orderRepository.save(order);
+        insertedRows.rows += orderLineCount + 1L;
+        return savedOrder;
+    }
+}
@@ -0,0 +1,57 @@
+package com.microservices.orderservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.service.mapper.OrderMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization and deserialization of an OrderDto, whose dates are written with
+ * their {@code @JsonFormat} pattern, using an ObjectMapper configured like the Spring Boot one.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderJsonBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per conversion.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderJsonBenchmark {
+
+    /**
+     * The number of order lines of the converted order.
+     */
+    @Param({"10", "100", "1000"})
+    private int orderLineCount;
+
+    private ObjectMapper objectMapper;
+    private OrderDto orderDto;
+    private byte[] orderJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        orderDto = new OrderMapperImpl().orderToOrderDto(BenchmarkSupport.newOrder(1L, orderLineCount));
+        orderJson = objectMapper.writeValueAsBytes(orderDto);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(orderDto);
+    }
+
+    @Benchmark
+    public OrderDto deserialize() throws IOException {
+        return objectMapper.readValue(orderJson, OrderDto.class);
+    }
+}
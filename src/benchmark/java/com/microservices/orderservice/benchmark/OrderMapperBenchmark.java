@@ -0,0 +1,67 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.entity.OrderLine;
+import com.microservices.orderservice.service.mapper.OrderLineMapper;
+import com.microservices.orderservice.service.mapper.OrderLineMapperImpl;
+import com.microservices.orderservice.service.mapper.OrderMapper;
+import com.microservices.orderservice.service.mapper.OrderMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the OrderMapper and OrderLineMapper conversions between orders and their DTOs.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderMapperBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per conversion.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderMapperBenchmark {
+
+    /**
+     * The number of order lines of the converted order.
+     */
+    @Param({"10", "100", "1000"})
+    private int orderLineCount;
+
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+    private final OrderLineMapper orderLineMapper = new OrderLineMapperImpl();
+    private Order order;
+    private OrderDto orderDto;
+    private List<OrderLineDto> orderLineDtoList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = BenchmarkSupport.newOrder(1L, orderLineCount);
+        orderDto = BenchmarkSupport.newOrderDto(orderLineCount);
+        orderLineDtoList = orderDto.getOrderLineDtoList();
+    }
+
+    @Benchmark
+    public OrderDto orderToOrderDto() {
+        return orderMapper.orderToOrderDto(order);
+    }
+
+    @Benchmark
+    public Order orderDtoToOrder() {
+        return orderMapper.orderDtoToOrder(orderDto);
+    }
+
+    @Benchmark
+    public List<OrderLine> orderLineDtoListToOrderLineList() {
+        return orderLineMapper.orderLineDtoListToOrderLineList(orderLineDtoList);
+    }
+}
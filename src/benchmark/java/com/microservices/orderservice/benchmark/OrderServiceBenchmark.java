@@ -0,0 +1,92 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.config.OrderQueryProperties;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderPageDto;
+import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.service.impl.OrderServiceImpl;
+import com.microservices.orderservice.service.mapper.OrderLineMapperImpl;
+import com.microservices.orderservice.service.mapper.OrderMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and allocation per call of {@code getOrderById} and of a {@code getAllOrders} page,
+ * against an in-memory repository and a log appender that formats every event into a discarding stream.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderServiceBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per call.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    /**
+     * The level of the service logger: {@code INFO} as in production, {@code DEBUG} as in development.
+     */
+    @Param({"INFO", "DEBUG"})
+    private String logLevel;
+
+    /**
+     * The number of order lines of every order.
+     */
+    @Param({"10"})
+    private int orderLineCount;
+
+    /**
+     * The number of orders of a page.
+     */
+    @Param({"100"})
+    private int pageSize;
+
+    private OrderServiceImpl orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.configureLogging(logLevel);
+        List<Order> orderList = new ArrayList<>(pageSize);
+        List<Long> orderIdList = new ArrayList<>(pageSize);
+        for (long orderId = 1; orderId <= pageSize; orderId++) {
+            orderList.add(BenchmarkSupport.newOrder(orderId, orderLineCount));
+            orderIdList.add(orderId);
+        }
+        Optional<Order> order = Optional.of(orderList.get(0));
+        OrderRepository orderRepository = (OrderRepository) Proxy.newProxyInstance(
+                OrderRepository.class.getClassLoader(),
+                new Class<?>[]{OrderRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findWithOrderLinesByOrderId" -> order;
+                    case "findOrderIdsAfter" -> orderIdList;
+                    case "findWithOrderLinesByOrderIdInOrderByOrderIdAsc" -> orderList;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        OrderQueryProperties orderQueryProperties = new OrderQueryProperties();
+        orderQueryProperties.setDefaultPageSize(pageSize);
+        orderService = new OrderServiceImpl(new OrderMapperImpl(), new OrderLineMapperImpl(), orderRepository,
+                                            null, orderQueryProperties, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public OrderDto getOrderById() {
+        return orderService.getOrderById(1L);
+    }
+
+    @Benchmark
+    public OrderPageDto getAllOrders() {
+        return orderService.getAllOrders(null, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.utility.MoneyUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the computation of an order total from the unit prices and quantities of its order lines,
+ * with prices held as {@code double} currency units, as {@code long} minor units, and as {@code BigDecimal}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderTotalBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per total.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderTotalBenchmark {
+
+    /**
+     * The number of order lines of the totalled order.
+     */
+    @Param({"1000"})
+    private int orderLineCount;
+
+    private double[] doubleUnitPrices;
+    private long[] minorUnitPrices;
+    private BigDecimal[] decimalUnitPrices;
+    private int[] quantities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        doubleUnitPrices = new double[orderLineCount];
+        minorUnitPrices = new long[orderLineCount];
+        decimalUnitPrices = new BigDecimal[orderLineCount];
+        quantities = new int[orderLineCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < orderLineCount; i++) {
+            minorUnitPrices[i] = random.nextLong(1, 1_000_000);
+            decimalUnitPrices[i] = MoneyUtils.toDecimal(minorUnitPrices[i]);
+            doubleUnitPrices[i] = decimalUnitPrices[i].doubleValue();
+            quantities[i] = random.nextInt(1, 1001);
+        }
+    }
+
+    @Benchmark
+    public double doubleTotal() {
+        double totalPrice = 0;
+        for (int i = 0; i < orderLineCount; i++) {
+            totalPrice += doubleUnitPrices[i] * quantities[i];
+        }
+        return totalPrice;
+    }
+
+    @Benchmark
+    public long minorUnitsTotal() {
+        long totalPrice = 0;
+        for (int i = 0; i < orderLineCount; i++) {
+            totalPrice = Math.addExact(totalPrice, MoneyUtils.lineTotal(minorUnitPrices[i], quantities[i]));
+        }
+        return totalPrice;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        for (int i = 0; i < orderLineCount; i++) {
+            totalPrice = totalPrice.add(decimalUnitPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return totalPrice;
+    }
+}
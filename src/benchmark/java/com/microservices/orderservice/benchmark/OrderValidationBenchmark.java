@@ -0,0 +1,66 @@
+package com.microservices.orderservice.benchmark;
+
+import com.microservices.orderservice.dto.OrderDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Bean Validation of an OrderDto, which cascades into every order line.
+ * The invalid order has a single order line without a quantity, so it also measures message interpolation.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderValidationBenchmark"};
+ * the {@code gc.alloc.rate.norm} lines of the report are the bytes allocated per validation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class OrderValidationBenchmark {
+
+    /**
+     * The number of order lines of the validated order.
+     */
+    @Param({"10", "100", "1000"})
+    private int orderLineCount;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private OrderDto validOrderDto;
+    private OrderDto invalidOrderDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validOrderDto = BenchmarkSupport.newOrderDto(orderLineCount);
+        invalidOrderDto = BenchmarkSupport.newOrderDto(orderLineCount);
+        invalidOrderDto.getOrderLineDtoList().get(orderLineCount / 2).setQuantity(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderDto>> validateValidOrder() {
+        return validator.validate(validOrderDto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderDto>> validateInvalidOrder() {
+        return validator.validate(invalidOrderDto);
+    }
+}
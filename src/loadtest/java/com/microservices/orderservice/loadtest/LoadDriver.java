@@ -0,0 +1,335 @@
+package com.microservices.orderservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a mixed workload of order creations, lookups, listings and deletions against the {@code /orders} API
+ * and records the latency of every request in an HdrHistogram per operation.
+ * <p>
+ * Every client sends one request at a time. With a rate per client, requests are scheduled at fixed intervals
+ * and their latency is measured from the scheduled time, so that a stalled server is charged for the requests
+ * it kept waiting instead of hiding them (coordinated omission); without a rate, clients send back to back.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class LoadDriver {
+
+    private static final int RECENT_ORDER_ID_CAPACITY = 4096;
+
+    /**
+     * The requests of the workload.
+     */
+    enum Operation {
+
+        /**
+         * POST /orders with a new order.
+         */
+        CREATE,
+
+        /**
+         * GET /orders/{orderId} of a recently created order, which may have been deleted since.
+         */
+        GET,
+
+        /**
+         * GET /orders for the first page of orders.
+         */
+        LIST,
+
+        /**
+         * DELETE /orders/{orderId} of the oldest created order not yet deleted.
+         */
+        DELETE
+    }
+
+    /**
+     * The shape of the load.
+     *
+     * @param clients        The number of concurrent clients.
+     * @param warmup         The time the workload runs before it is measured.
+     * @param duration       The time the workload is measured for.
+     * @param ratePerClient  The requests per second each client sends, or 0 to send back to back.
+     * @param mix            The relative weight of every operation.
+     * @param productCount   The number of distinct products orders are made of.
+     * @param orderLineCount The number of order lines of every created order.
+     * @param listPageSize   The page size of the LIST requests.
+     */
+    record Workload(int clients,
+                    Duration warmup,
+                    Duration duration,
+                    double ratePerClient,
+                    Map<Operation, Integer> mix,
+                    int productCount,
+                    int orderLineCount,
+                    int listPageSize) {
+
+        /**
+         * Parses an operation mix such as {@code create:40,get:40,list:10,delete:10}.
+         *
+         * @param mix The comma separated operation names and weights.
+         * @return The weight of every operation, zero for the operations not listed.
+         */
+        static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                weights.put(operation, 0);
+            }
+            for (String entry : mix.split(",")) {
+                String[] nameAndWeight = entry.trim().split(":");
+                weights.put(Operation.valueOf(nameAndWeight[0].trim().toUpperCase()),
+                            Integer.parseInt(nameAndWeight[1].trim()));
+            }
+            return weights;
+        }
+    }
+
+    private final URI ordersUri;
+    private final Workload workload;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] operationByWeight;
+    private final ConcurrentLinkedDeque<Long> deletableOrderIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLongArray recentOrderIds = new AtomicLongArray(RECENT_ORDER_ID_CAPACITY);
+    private final AtomicLong createdOrderCount = new AtomicLong();
+
+    /**
+     * Constructs a driver of the order-service running at the given base URL.
+     *
+     * @param baseUri  The base URL of the order-service, such as {@code http://localhost:8086}.
+     * @param workload The workload to run.
+     */
+    LoadDriver(URI baseUri, Workload workload) {
+        this.ordersUri = baseUri.resolve("/orders");
+        this.workload = workload;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Operation> operations = new ArrayList<>();
+        workload.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix has no positive weight");
+        }
+        this.operationByWeight = operations.toArray(new Operation[0]);
+    }
+
+    /**
+     * Runs the warmup, whose requests are not reported, then the measured workload.
+     *
+     * @return The report of the measured requests.
+     * @throws InterruptedException if the calling thread is interrupted while the workload runs.
+     */
+    Report run() throws InterruptedException {
+        runPhase(workload.warmup(), new Report(workload.warmup()));
+        Report report = new Report(workload.duration());
+        runPhase(workload.duration(), report);
+        return report;
+    }
+
+    private void runPhase(Duration duration, Report report) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        long intervalNanos = workload.ratePerClient() > 0 ? (long) (1_000_000_000L / workload.ratePerClient()) : 0;
+        ExecutorService clients = Executors.newFixedThreadPool(workload.clients());
+        for (int i = 0; i < workload.clients(); i++) {
+            clients.execute(() -> {
+                // Clients start spread over one interval so that paced requests do not arrive in bursts.
+                long scheduledTime = System.nanoTime()
+                        + (intervalNanos > 0 ? ThreadLocalRandom.current().nextLong(intervalNanos) : 0);
+                while (scheduledTime < deadline && !Thread.currentThread().isInterrupted()) {
+                    long now = System.nanoTime();
+                    if (intervalNanos > 0 && now < scheduledTime) {
+                        LockSupport.parkNanos(scheduledTime - now);
+                    }
+                    long startTime = intervalNanos > 0 ? scheduledTime : System.nanoTime();
+                    Operation operation = operationByWeight[ThreadLocalRandom.current()
+                            .nextInt(operationByWeight.length)];
+                    Outcome outcome = execute(operation);
+                    report.record(outcome.operation(), outcome.statusCode(), System.nanoTime() - startTime);
+                    scheduledTime = intervalNanos > 0 ? scheduledTime + intervalNanos : System.nanoTime();
+                }
+            });
+        }
+        clients.shutdown();
+        if (!clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            clients.shutdownNow();
+        }
+    }
+
+    private Outcome execute(Operation operation) {
+        try {
+            return switch (operation) {
+                case CREATE -> createOrder();
+                case GET -> {
+                    long orderId = recentOrderId();
+                    yield orderId > 0 ? send(Operation.GET, request(ordersUri + "/" + orderId).GET()) : createOrder();
+                }
+                case LIST -> send(Operation.LIST, request(ordersUri + "?size=" + workload.listPageSize()).GET());
+                case DELETE -> {
+                    Long orderId = deletableOrderIds.pollFirst();
+                    yield orderId != null ?
+                            send(Operation.DELETE, request(ordersUri + "/" + orderId).DELETE()) :
+                            createOrder();
+                }
+            };
+        } catch (IOException e) {
+            return new Outcome(operation, Report.CONNECTION_FAILURE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(operation, Report.CONNECTION_FAILURE);
+        }
+    }
+
+    private Outcome createOrder() throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder("{\"orderLineDtoList\":[");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < workload.orderLineCount(); i++) {
+            body.append(i > 0 ? "," : "")
+                    .append("{\"productId\":").append(random.nextInt(workload.productCount()) + 1)
+                    .append(",\"quantity\":").append(random.nextInt(5) + 1).append('}');
+        }
+        body.append("]}");
+        HttpResponse<String> response = httpClient.send(
+                request(ordersUri.toString())
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 201) {
+            long orderId = objectMapper.readTree(response.body()).path("orderId").asLong();
+            if (orderId > 0) {
+                deletableOrderIds.addLast(orderId);
+                long index = createdOrderCount.getAndIncrement();
+                recentOrderIds.set((int) (index % RECENT_ORDER_ID_CAPACITY), orderId);
+            }
+        }
+        return new Outcome(Operation.CREATE, response.statusCode());
+    }
+
+    private long recentOrderId() {
+        long createdCount = createdOrderCount.get();
+        if (createdCount == 0) {
+            return 0;
+        }
+        int bound = (int) Math.min(createdCount, RECENT_ORDER_ID_CAPACITY);
+        return recentOrderIds.get(ThreadLocalRandom.current().nextInt(bound));
+    }
+
+    private Outcome send(Operation operation, HttpRequest.Builder requestBuilder)
+            throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.discarding());
+        return new Outcome(operation, response.statusCode());
+    }
+
+    private static HttpRequest.Builder request(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private record Outcome(Operation operation, int statusCode) {
+    }
+
+    /**
+     * Latencies and status codes of the requests of one phase, per operation.
+     */
+    static class Report {
+
+        /**
+         * The status code recorded for requests that got no response.
+         */
+        static final int CONNECTION_FAILURE = -1;
+
+        private final Duration duration;
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Map<Integer, LongAdder>> statusCodes = new EnumMap<>(Operation.class);
+
+        Report(Duration duration) {
+            this.duration = duration;
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(3));
+                statusCodes.put(operation, new ConcurrentHashMap<>());
+            }
+        }
+
+        void record(Operation operation, int statusCode, long latencyNanos) {
+            latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            statusCodes.get(operation).computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        }
+
+        /**
+         * Returns the number of requests of the given operation answered with a 2xx status.
+         *
+         * @param operation The operation.
+         * @return The number of successful requests.
+         */
+        long getSuccessCount(Operation operation) {
+            return statusCodes.get(operation).entrySet().stream()
+                    .filter(entry -> entry.getKey() >= 200 && entry.getKey() < 300)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+
+        /**
+         * Prints the throughput, latency percentiles and status codes of every operation.
+         *
+         * @param out The stream to print to.
+         */
+        void print(PrintStream out) {
+            double seconds = duration.toMillis() / 1000.0;
+            out.printf("%n%-8s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                       "op", "requests", "req/s", "ok/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "status codes");
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = latencies.get(operation);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                Map<Integer, Long> codes = new TreeMap<>();
+                statusCodes.get(operation).forEach((code, count) -> codes.put(code, count.sum()));
+                out.printf("%-8s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                           operation,
+                           histogram.getTotalCount(),
+                           histogram.getTotalCount() / seconds,
+                           getSuccessCount(operation) / seconds,
+                           histogram.getValueAtPercentile(50) / 1000.0,
+                           histogram.getValueAtPercentile(99) / 1000.0,
+                           histogram.getValueAtPercentile(99.9) / 1000.0,
+                           histogram.getMaxValue() / 1000.0,
+                           codes);
+            }
+        }
+    }
+}
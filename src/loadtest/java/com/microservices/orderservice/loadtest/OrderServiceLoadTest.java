@@ -0,0 +1,98 @@
+package com.microservices.orderservice.loadtest;
+
+import com.microservices.orderservice.OrderServiceApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a mixed workload against the order-service and prints the throughput and the p50/p99/p999 latency
+ * of every operation.
+ * <p>
+ * Unless {@code loadtest.target-url} names a running instance, the order-service is started in-process with
+ * the {@code embedded} profile, an in-memory database and a {@link StubProductServer} as its PRODUCT-SERVICE.
+ * The load is configured with system properties, for instance
+ * {@code mvn -Pjava21,loadtest test -Dtest=OrderServiceLoadTest -Dloadtest.clients=100 -Dloadtest.rate=20
+ * -Dloadtest.mix=create:50,get:50 -Dloadtest.product.latency=50ms -Dloadtest.product.error-rate=0.01};
+ * see {@link #property(String, String)} for the defaults.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class OrderServiceLoadTest {
+
+    @Test
+    @DisplayName("ORDERS - MIXED WORKLOAD - REPORTS THROUGHPUT AND LATENCY")
+    void Orders_MixedWorkload_ReportsThroughputAndLatency() throws Exception {
+        LoadDriver.Workload workload = new LoadDriver.Workload(
+                Integer.parseInt(property("clients", "50")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "30s")),
+                Double.parseDouble(property("rate", "0")),
+                LoadDriver.Workload.parseMix(property("mix", "create:30,get:50,list:10,delete:10")),
+                Integer.parseInt(property("products", "100")),
+                Integer.parseInt(property("order-lines", "3")),
+                Integer.parseInt(property("list-size", "20")));
+        String targetUrl = property("target-url", "");
+
+        LoadDriver.Report report;
+        if (!targetUrl.isEmpty()) {
+            report = new LoadDriver(URI.create(targetUrl), workload).run();
+        } else {
+            try (StubProductServer stubProductServer = new StubProductServer(
+                    DurationStyle.detectAndParse(property("product.latency", "20ms")),
+                    DurationStyle.detectAndParse(property("product.jitter", "10ms")),
+                    Double.parseDouble(property("product.error-rate", "0")));
+                 ConfigurableApplicationContext context = startOrderService(stubProductServer)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                report = new LoadDriver(URI.create("http://localhost:" + port), workload).run();
+                System.out.printf("%nPRODUCT-SERVICE stub: %d requests, %d injected errors%n",
+                                  stubProductServer.getRequestCount(), stubProductServer.getErrorCount());
+            }
+        }
+
+        report.print(System.out);
+        assertTrue(report.getSuccessCount(LoadDriver.Operation.CREATE) > 0);
+    }
+
+    private static ConfigurableApplicationContext startOrderService(StubProductServer stubProductServer) {
+        String profiles = property("profiles", "");
+        return new SpringApplicationBuilder(OrderServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.profiles.active=embedded" + (profiles.isEmpty() ? "" : "," + profiles),
+                "--spring.cloud.openfeign.client.config.PRODUCT-SERVICE.url=" + stubProductServer.getUrl());
+    }
+
+    /**
+     * Reads a {@code loadtest.*} system property.
+     * <ul>
+     *     <li>{@code clients} (50), {@code warmup} (10s), {@code duration} (30s): the concurrent clients and
+     *     how long they run.</li>
+     *     <li>{@code rate} (0): the requests per second of every client, 0 to send back to back.</li>
+     *     <li>{@code mix} (create:30,get:50,list:10,delete:10): the weight of every operation.</li>
+     *     <li>{@code products} (100), {@code order-lines} (3), {@code list-size} (20): the shape of the
+     *     created orders and of the listed pages.</li>
+     *     <li>{@code product.latency} (20ms), {@code product.jitter} (10ms), {@code product.error-rate} (0):
+     *     the behaviour of the PRODUCT-SERVICE stub.</li>
+     *     <li>{@code profiles} (none): profiles activated in addition to {@code embedded}, such as
+     *     {@code virtual-threads}.</li>
+     *     <li>{@code target-url} (none): the base URL of an order-service to load instead of starting one.</li>
+     * </ul>
+     *
+     * @param name         The name of the property, without the {@code loadtest.} prefix.
+     * @param defaultValue The value used when the property is not set.
+     * @return The value of the property.
+     */
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,124 @@
+package com.microservices.orderservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the PRODUCT-SERVICE that answers {@code GET /products/{productId}} after a configurable latency,
+ * so that load tests measure how the order-service copes with a slow or failing dependency.
+ * Every product exists and costs 10.0; a share of the requests, chosen at random, fails with a 503.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class StubProductServer implements AutoCloseable {
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    /**
+     * Starts the stub on a free local port, answering every request successfully after a fixed latency.
+     *
+     * @param latency The time every response is delayed by.
+     * @throws IOException if the server cannot be started.
+     */
+    StubProductServer(Duration latency) throws IOException {
+        this(latency, Duration.ZERO, 0);
+    }
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @param latency   The median time every response is delayed by.
+     * @param jitter    The largest random deviation from the latency, in either direction.
+     * @param errorRate The share of requests, between 0 and 1, answered with a 503 instead of the product.
+     * @throws IOException if the server cannot be started.
+     */
+    StubProductServer(Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.executorService = Executors.newCachedThreadPool();
+        this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.httpServer.createContext("/products/", this::getProductById);
+        this.httpServer.setExecutor(executorService);
+        this.httpServer.start();
+    }
+
+    /**
+     * Returns the base URL of the stub.
+     *
+     * @return The base URL, without a trailing slash.
+     */
+    String getUrl() {
+        return "http://localhost:" + httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of requests answered so far.
+     *
+     * @return The number of requests, including the failed ones.
+     */
+    long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of requests answered with an injected error so far.
+     *
+     * @return The number of failed requests.
+     */
+    long getErrorCount() {
+        return errorCount.get();
+    }
+
+    private void getProductById(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long jitterNanos = jitter.toNanos();
+            long delayNanos = latency.toNanos() + (jitterNanos > 0 ? random.nextLong(-jitterNanos, jitterNanos + 1) : 0);
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+            requestCount.incrementAndGet();
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                errorCount.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            String productId = exchange.getRequestURI().getPath().substring("/products/".length());
+            byte[] body = ("{\"productId\":" + productId + ",\"productName\":\"Product " + productId
+                    + "\",\"productPrice\":10.0}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,136 @@
+package com.microservices.orderservice.loadtest;
+
+import com.microservices.orderservice.OrderServiceApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the createOrder throughput of the default platform thread pools with the {@code virtual-threads}
+ * profile, while every product lookup takes {@link #PRODUCT_LATENCY} in the PRODUCT-SERVICE.
+ * Both runs use the {@code embedded} profile, whose disabled concurrency limit does not cap both modes at the
+ * same concurrency, and disable the product cache so that every order waits for the PRODUCT-SERVICE.
+ * <p>
+ * Run on Java 21 with {@code mvn -Pjava21,loadtest test}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class VirtualThreadsLoadTest {
+
+    private static final Duration PRODUCT_LATENCY = Duration.ofMillis(100);
+    private static final int CONCURRENT_CLIENTS = 200;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+    private static final String ORDER_JSON =
+            "{\"orderLineDtoList\":[{\"productId\":1,\"quantity\":2},{\"productId\":2,\"quantity\":1}]}";
+
+    private static StubProductServer stubProductServer;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        stubProductServer = new StubProductServer(PRODUCT_LATENCY);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stubProductServer.close();
+    }
+
+    @Test
+    @DisplayName("CREATE ORDER - SLOW PRODUCT SERVICE - PLATFORM VS VIRTUAL THREADS")
+    void CreateOrder_SlowProductService_VirtualThreadsOutperformPlatformThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21");
+
+        Result platform = run("platform");
+        Result virtual = run("virtual-threads");
+
+        System.out.printf("%n%-16s %12s %12s %10s%n", "mode", "created/s", "rejected/s", "max ms");
+        System.out.println(platform);
+        System.out.println(virtual);
+        assertTrue(platform.created() > 0);
+        assertTrue(virtual.created() > platform.created());
+    }
+
+    private Result run(String profile) throws Exception {
+        String[] args = {
+                "--server.port=0",
+                "--spring.profiles.active=" + ("platform".equals(profile) ? "embedded" : "embedded," + profile),
+                "--spring.cloud.openfeign.client.config.PRODUCT-SERVICE.url=" + stubProductServer.getUrl(),
+                "--order-service.product-lookup.cache.enabled=false"};
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(OrderServiceApplication.class).run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/orders");
+            drive(uri, WARMUP);
+            return drive(uri, MEASUREMENT).withProfile(profile);
+        }
+    }
+
+    private Result drive(URI uri, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        AtomicLong created = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong maxNanos = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        (response.statusCode() == 201 ? created : rejected).incrementAndGet();
+                    } catch (IOException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    maxNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        double seconds = duration.toMillis() / 1000.0;
+        return new Result(null, created.get() / seconds, rejected.get() / seconds, maxNanos.get() / 1_000_000);
+    }
+
+    private record Result(String profile, double created, double rejected, long maxMillis) {
+
+        Result withProfile(String profile) {
+            return new Result(profile, created, rejected, maxMillis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %12.1f %12.1f %10d", profile, created, rejected, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.microservices.orderservice.config;
+
+import com.microservices.orderservice.controller.interceptor.ConcurrencyLimitInterceptor;
+import com.microservices.orderservice.service.ConcurrencyLimiter;
+import com.microservices.orderservice.service.impl.AimdConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.CREATE_ORDERS_OVERLOADED;
+import static com.microservices.orderservice.utility.ExceptionConstant.CREATE_ORDER_OVERLOADED;
+
+/**
+ * Configuration class for the adaptive concurrency limit of {@code POST /orders} and {@code POST /orders/batch},
+ * which share one limit as both create orders on the same executor and database.
+ * It replaces a fixed rate limit and bulkhead: the limit follows the latency and failures of the order creation,
+ * and requests beyond it are rejected with 429 instead of waiting for a free slot.
+ * With {@code order-service.create-order-limit.enabled=false} every request is admitted.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectProvider<ConcurrencyLimiter> createOrderConcurrencyLimiter;
+
+    /**
+     * Constructs a new ConcurrencyLimitConfig.
+     *
+     * @param properties                   The concurrency limit configuration properties.
+     * @param createOrderConcurrencyLimiter The provider of the order creation concurrency limiter.
+     */
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties,
+                                  ObjectProvider<ConcurrencyLimiter> createOrderConcurrencyLimiter) {
+        this.properties = properties;
+        this.createOrderConcurrencyLimiter = createOrderConcurrencyLimiter;
+    }
+
+    /**
+     * Creates and returns the concurrency limiter of the order creation.
+     *
+     * @param meterRegistry The registry the limit metrics are published to.
+     * @return An implementation of the ConcurrencyLimiter interface.
+     */
+    @Bean
+    public ConcurrencyLimiter createOrderConcurrencyLimiter(MeterRegistry meterRegistry) {
+        return new AimdConcurrencyLimiter(properties, System::nanoTime, meterRegistry);
+    }
+
+    /**
+     * Admits the order creation requests, single and batch, through the concurrency limiter.
+     *
+     * @param registry The InterceptorRegistry to customize.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.isEnabled()) {
+            ConcurrencyLimiter concurrencyLimiter = createOrderConcurrencyLimiter.getObject();
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiter, CREATE_ORDER_OVERLOADED))
+                    .addPathPatterns("/orders");
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiter, CREATE_ORDERS_OVERLOADED))
+                    .addPathPatterns("/orders/batch");
+        }
+    }
+}
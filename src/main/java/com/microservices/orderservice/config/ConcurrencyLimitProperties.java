@@ -0,0 +1,48 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the adaptive concurrency limit of the order creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.create-order-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Whether order creations beyond the limit are rejected.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The limit before any order creation was observed.
+     */
+    private int initialLimit = 16;
+
+    /**
+     * The limit never backed off below.
+     */
+    private int minLimit = 2;
+
+    /**
+     * The limit never grown beyond; no more than the create order executor runs at once.
+     */
+    private int maxLimit = 32;
+
+    /**
+     * The factor the limit is multiplied by when an order creation was slow or dropped.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * The latency above which an order creation counts as a sign of overload.
+     */
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+}
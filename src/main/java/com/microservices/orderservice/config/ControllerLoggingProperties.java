@@ -0,0 +1,32 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the logging and timing of the controller methods.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.controller-logging")
+public class ControllerLoggingProperties {
+
+    /**
+     * Whether the arguments and return values of the controller methods are logged at DEBUG level.
+     * Off by default, as request and response bodies can be large and carry customer data.
+     */
+    private boolean payloadsEnabled = false;
+
+    /**
+     * Whether the controller timers publish histogram buckets, from which percentiles can be aggregated.
+     */
+    private boolean percentileHistogram = true;
+
+    /**
+     * The percentiles of the controller method durations computed in the service and published as gauges.
+     */
+    private double[] percentiles = {0.5, 0.95, 0.99};
+}
@@ -0,0 +1,37 @@
+package com.microservices.orderservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Configuration class for the executor on which orders are created.
+ * Creating an order blocks on the PRODUCT-SERVICE and the database, so it runs on this executor
+ * instead of the common fork-join pool, which is sized to the CPU cores and shared by the whole JVM.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableConfigurationProperties(CreateOrderExecutorProperties.class)
+public class CreateOrderExecutorConfig {
+
+    /**
+     * Creates and returns the executor on which orders are created: a bounded platform thread pool, whose
+     * queue and pool sizes are published as executor metrics, or a virtual thread per order capped at the
+     * configured concurrency. Virtual threads fall back to the platform pool when the JVM does not support them.
+     *
+     * @param properties The create order executor configuration properties.
+     * @return The create order executor.
+     */
+    @Bean
+    public AsyncTaskExecutor createOrderExecutor(CreateOrderExecutorProperties properties) {
+        return TaskExecutorFactory.create("create-order-",
+                                          properties.getMode(),
+                                          properties.getCoreSize(),
+                                          properties.getMaxSize(),
+                                          properties.getQueueCapacity());
+    }
+}
@@ -0,0 +1,37 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the executor on which orders are created.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.create-order-executor")
+public class CreateOrderExecutorProperties {
+
+    /**
+     * The kind of threads orders are created on.
+     */
+    private ExecutorMode mode = ExecutorMode.PLATFORM;
+
+    /**
+     * The number of threads kept alive in the platform pool.
+     */
+    private int coreSize = 16;
+
+    /**
+     * The maximum number of orders created concurrently: the size of the platform pool,
+     * or the concurrency limit of the virtual threads.
+     */
+    private int maxSize = 32;
+
+    /**
+     * The number of orders that may wait for a free platform thread before new orders are rejected.
+     */
+    private int queueCapacity = 64;
+}
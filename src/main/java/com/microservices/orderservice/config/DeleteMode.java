@@ -0,0 +1,21 @@
+package com.microservices.orderservice.config;
+
+/**
+ * How deleted orders are removed from the order-service.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum DeleteMode {
+
+    /**
+     * The order and its order lines are deleted from the database.
+     */
+    HARD,
+
+    /**
+     * The order is only flagged as deleted and is no longer returned by any query.
+     */
+    SOFT
+}
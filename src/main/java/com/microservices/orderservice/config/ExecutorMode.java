@@ -0,0 +1,21 @@
+package com.microservices.orderservice.config;
+
+/**
+ * Kind of threads a configurable executor of the order-service runs its tasks on.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum ExecutorMode {
+
+    /**
+     * A bounded pool of platform threads.
+     */
+    PLATFORM,
+
+    /**
+     * A new virtual thread per task, capped at a maximum concurrency, requiring Java 21 or later.
+     */
+    VIRTUAL
+}
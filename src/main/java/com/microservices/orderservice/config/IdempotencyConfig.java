@@ -0,0 +1,42 @@
+package com.microservices.orderservice.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.service.IdempotencyStore;
+import com.microservices.orderservice.service.impl.CaffeineIdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the store that deduplicates order creations submitted with the same idempotency key.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    /**
+     * Creates and returns the in-process idempotency store, whose hit and miss counts are published as the
+     * {@code idempotencyStore} cache metrics. A store shared by all instances, such as a database-backed one,
+     * replaces it by declaring its own IdempotencyStore bean.
+     *
+     * @param properties    The idempotency configuration properties.
+     * @param meterRegistry The registry the store statistics are published to.
+     * @return An implementation of the IdempotencyStore interface.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        CaffeineIdempotencyStore idempotencyStore = new CaffeineIdempotencyStore(properties.getMaximumSize(),
+                                                                                 properties.getRetention(),
+                                                                                 Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, idempotencyStore.getCache(), "idempotencyStore");
+        return idempotencyStore;
+    }
+}
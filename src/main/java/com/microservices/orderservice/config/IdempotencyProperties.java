@@ -0,0 +1,28 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for deduplicating order creations submitted with an {@code Idempotency-Key} header.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * The maximum number of idempotency keys remembered; the least recently used keys are forgotten first.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * The time an idempotency key is remembered after it is first submitted.
+     */
+    private Duration retention = Duration.ofHours(1);
+}
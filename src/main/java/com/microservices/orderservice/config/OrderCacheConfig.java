@@ -0,0 +1,81 @@
+package com.microservices.orderservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class enabling the cache of the orders served by {@code getOrderById}
+ * and of the order statistics.
+ * <p>
+ * The cache manager is built by Spring Boot from the {@code spring.cache} properties: an in-process, size-bounded
+ * Caffeine cache by default, any other supported backend through {@code spring.cache.type}, or no caching at all
+ * with {@code spring.cache.type=none}. Caches listed in {@code spring.cache.cache-names} publish their hit and
+ * miss counts as the {@code cache.gets} Actuator metric.
+ * With Caffeine, the statistics cache gets its own, much shorter, time to live.
+ * <p>
+ * The cache manager is made transaction-aware, so that an order deleted in a transaction is evicted once the
+ * transaction has committed rather than before, when a concurrent {@code getOrderById} could still load and cache
+ * it again.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(OrderStatsProperties.class)
+public class OrderCacheConfig {
+
+    /**
+     * The name of the cache of the mapped orders, keyed by their ID.
+     */
+    public static final String ORDER_CACHE = "orders";
+
+    /**
+     * The name of the cache of the order statistics, keyed by the statistic and its parameters.
+     */
+    public static final String ORDER_STATS_CACHE = "orderStats";
+
+    /**
+     * Registers the order statistics cache with the time to live of the statistics.
+     *
+     * @param orderStatsProperties The order statistics properties.
+     * @return The customizer of the Caffeine cache manager.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> orderStatsCacheCustomizer(
+            OrderStatsProperties orderStatsProperties) {
+        return cacheManager -> cacheManager.registerCustomCache(ORDER_STATS_CACHE, Caffeine.newBuilder()
+                .maximumSize(orderStatsProperties.getCacheMaximumSize())
+                .expireAfterWrite(orderStatsProperties.getCacheTtl())
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Wraps the cache manager so that puts and evictions made in a transaction are applied after its commit.
+     *
+     * @return The post-processor wrapping the cache manager.
+     */
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager
+                        && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
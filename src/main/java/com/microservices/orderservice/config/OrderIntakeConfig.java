@@ -0,0 +1,92 @@
+package com.microservices.orderservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.exception.ErrorCatalogue;
+import com.microservices.orderservice.repository.OrderIntakeRepository;
+import com.microservices.orderservice.service.OrderService;
+import com.microservices.orderservice.service.impl.OrderIntakeWorker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration class for the workers creating the orders accepted under {@code /orders/intake}.
+ * <p>
+ * Every instance with {@code order-service.intake.worker-enabled=true} polls for accepted orders after a fixed
+ * delay and creates them on its own pool of workers; instances skip the orders another instance has claimed.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderIntakeProperties.class)
+public class OrderIntakeConfig implements SchedulingConfigurer {
+
+    private final OrderIntakeProperties properties;
+    private final ObjectProvider<OrderIntakeWorker> orderIntakeWorker;
+
+    /**
+     * Constructs a new OrderIntakeConfig.
+     *
+     * @param properties        The order intake configuration properties.
+     * @param orderIntakeWorker The provider of the order intake worker.
+     */
+    public OrderIntakeConfig(OrderIntakeProperties properties, ObjectProvider<OrderIntakeWorker> orderIntakeWorker) {
+        this.properties = properties;
+        this.orderIntakeWorker = orderIntakeWorker;
+    }
+
+    /**
+     * Creates and returns the executor the intake workers run on, a platform thread per worker.
+     *
+     * @return The order intake executor.
+     */
+    @Bean
+    public AsyncTaskExecutor orderIntakeExecutor() {
+        return TaskExecutorFactory.create("order-intake-",
+                                          ExecutorMode.PLATFORM,
+                                          properties.getWorkers(),
+                                          properties.getWorkers(),
+                                          0);
+    }
+
+    /**
+     * Creates and returns the order intake worker.
+     *
+     * @param orderIntakeRepository The repository of the accepted orders.
+     * @param orderService          The service creating the orders.
+     * @param transactionTemplate   The template running every claim and outcome in its own transaction.
+     * @param objectMapper          The mapper reading the accepted orders and writing their errors.
+     * @param errorCatalogue        The catalogue of the errors reported for failed orders.
+     * @param meterRegistry         The registry the outcome counts are published to.
+     * @return The OrderIntakeWorker.
+     */
+    @Bean
+    public OrderIntakeWorker orderIntakeWorker(OrderIntakeRepository orderIntakeRepository,
+                                               OrderService orderService,
+                                               TransactionTemplate transactionTemplate,
+                                               ObjectMapper objectMapper,
+                                               ErrorCatalogue errorCatalogue,
+                                               MeterRegistry meterRegistry) {
+        return new OrderIntakeWorker(orderIntakeRepository, orderService, transactionTemplate, objectMapper,
+                                     errorCatalogue, orderIntakeExecutor(), properties, meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.isWorkerEnabled()) {
+            taskRegistrar.addFixedDelayTask(() -> orderIntakeWorker.getObject().poll(), properties.getPollInterval());
+            taskRegistrar.addFixedDelayTask(() -> orderIntakeWorker.getObject().purge(),
+                                            properties.getPurgeInterval());
+        }
+    }
+}
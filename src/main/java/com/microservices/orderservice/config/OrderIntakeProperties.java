@@ -0,0 +1,76 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the orders accepted under {@code /orders/intake} and created asynchronously.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.intake")
+public class OrderIntakeProperties {
+
+    /**
+     * Whether this instance runs the workers creating the accepted orders.
+     */
+    private boolean workerEnabled = true;
+
+    /**
+     * The number of workers of this instance, each creating one batch of orders at a time.
+     */
+    private int workers = 2;
+
+    /**
+     * The time between the end of a poll for accepted orders and the start of the next one.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * The maximum number of orders a worker creates at once; must not exceed
+     * {@code order-service.orders.batch.max-size}.
+     */
+    private int batchSize = 50;
+
+    /**
+     * The maximum number of orders waiting for or under creation; further orders are refused until workers
+     * catch up.
+     */
+    private long capacity = 10000;
+
+    /**
+     * The number of times the creation of an order is attempted before it is reported as failed.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * The time after a failed attempt before the creation of an order is attempted again, doubled with every
+     * further failed attempt.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * The maximum time after a failed attempt before the creation of an order is attempted again.
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(1);
+
+    /**
+     * The time after which an order claimed by a worker that did not complete it is claimed again.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * The time the outcome of an order is kept for polling after its creation completed.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * The time between two purges of the outcomes past their retention.
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
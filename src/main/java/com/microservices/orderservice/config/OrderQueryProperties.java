@@ -0,0 +1,82 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for listing, streaming, batch-creating and deleting orders.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.orders")
+public class OrderQueryProperties {
+
+    /**
+     * The number of orders returned per page when the client does not ask for a size.
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * The largest number of orders returned per page, whatever size the client asks for.
+     */
+    private int maxPageSize = 1000;
+
+    /**
+     * Whether deleted orders are removed from the database or only flagged as deleted.
+     */
+    private DeleteMode deleteMode = DeleteMode.HARD;
+
+    /**
+     * The settings for streaming all orders.
+     */
+    private final Stream stream = new Stream();
+
+    /**
+     * The settings for creating orders in batches.
+     */
+    private final Batch batch = new Batch();
+
+    /**
+     * Settings of the order streaming.
+     */
+    @Data
+    public static class Stream {
+
+        /**
+         * The number of order streams written concurrently.
+         */
+        private int maxConcurrentStreams = 4;
+
+        /**
+         * The number of order streams that may wait for a free writer before new streams are rejected.
+         */
+        private int queueCapacity = 16;
+
+        /**
+         * The time a single order stream may take before it is aborted.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+    }
+
+    /**
+     * Settings of the batch order creation.
+     */
+    @Data
+    public static class Batch {
+
+        /**
+         * The largest number of orders accepted in a single batch request.
+         */
+        private int maxSize = 500;
+
+        /**
+         * The number of orders persisted per transaction; a failing chunk is retried one order at a time.
+         */
+        private int chunkSize = 50;
+    }
+}
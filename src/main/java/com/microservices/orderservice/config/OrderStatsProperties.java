@@ -0,0 +1,43 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the order statistics served under {@code /orders/stats}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.stats")
+public class OrderStatsProperties {
+
+    /**
+     * The largest number of days covered by a single statistics request.
+     */
+    private int maxRangeDays = 366;
+
+    /**
+     * The number of products returned by the top products when the client does not ask for a limit.
+     */
+    private int defaultTopProducts = 10;
+
+    /**
+     * The largest number of products returned by the top products, whatever limit the client asks for.
+     */
+    private int maxTopProducts = 100;
+
+    /**
+     * The time a computed statistic is served from the cache before it is computed again; zero disables the cache.
+     */
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * The maximum number of computed statistics kept in the cache.
+     */
+    private long cacheMaximumSize = 1000;
+}
@@ -0,0 +1,91 @@
+package com.microservices.orderservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.repository.OutboxEventRepository;
+import com.microservices.orderservice.service.OrderEventSink;
+import com.microservices.orderservice.service.impl.FileOrderEventSink;
+import com.microservices.orderservice.service.impl.InMemoryOrderEventSink;
+import com.microservices.orderservice.service.impl.LoggingOrderEventSink;
+import com.microservices.orderservice.service.impl.OutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration class for the outbox relay publishing the order events recorded with the order changes.
+ * <p>
+ * The relay runs on the scheduler of every instance with {@code order-service.outbox.relay-enabled=true},
+ * after a fixed delay; instances skip the events another instance has locked where the database supports it.
+ * A message broker adapter replaces the built-in sinks by declaring its own OrderEventSink bean.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig implements SchedulingConfigurer {
+
+    private final OutboxProperties properties;
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    /**
+     * Constructs a new OutboxConfig.
+     *
+     * @param properties  The outbox configuration properties.
+     * @param outboxRelay The provider of the outbox relay.
+     */
+    public OutboxConfig(OutboxProperties properties, ObjectProvider<OutboxRelay> outboxRelay) {
+        this.properties = properties;
+        this.outboxRelay = outboxRelay;
+    }
+
+    /**
+     * Creates and returns the built-in order event sink selected by {@code order-service.outbox.sink}.
+     *
+     * @param objectMapper The mapper writing the events of the FILE sink.
+     * @return An implementation of the OrderEventSink interface.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OrderEventSink orderEventSink(ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case LOG -> new LoggingOrderEventSink();
+            case MEMORY -> new InMemoryOrderEventSink();
+            case FILE -> new FileOrderEventSink(properties.getFile(), objectMapper);
+        };
+    }
+
+    /**
+     * Creates and returns the outbox relay.
+     *
+     * @param outboxEventRepository The repository of the outbox events.
+     * @param orderEventSink        The sink the events are published to.
+     * @param transactionTemplate   The template running every batch in its own transaction.
+     * @param meterRegistry         The registry the event counts are published to.
+     * @return The OutboxRelay.
+     */
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+                                   OrderEventSink orderEventSink,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, orderEventSink, transactionTemplate,
+                               properties.getBatchSize(), meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.isRelayEnabled()) {
+            taskRegistrar.addFixedDelayTask(() -> outboxRelay.getObject().relay(), properties.getPollInterval());
+        }
+    }
+}
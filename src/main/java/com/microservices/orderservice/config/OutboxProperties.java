@@ -0,0 +1,44 @@
+package com.microservices.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for publishing the order events recorded in the outbox.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "order-service.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this instance runs the relay publishing the recorded events.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * The time between the end of a relay run and the start of the next one.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * The maximum number of events published at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The built-in sink the events are published to, unless an OrderEventSink bean is declared.
+     */
+    private OutboxSinkType sink = OutboxSinkType.LOG;
+
+    /**
+     * The file the events are appended to by the FILE sink.
+     */
+    private Path file = Path.of("order-events.ndjson");
+}
@@ -0,0 +1,26 @@
+package com.microservices.orderservice.config;
+
+/**
+ * The built-in destinations of the order events published by the outbox relay.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum OutboxSinkType {
+
+    /**
+     * The events are only logged.
+     */
+    LOG,
+
+    /**
+     * The events are kept in memory.
+     */
+    MEMORY,
+
+    /**
+     * The events are appended to a file as newline-delimited JSON.
+     */
+    FILE
+}
@@ -0,0 +1,158 @@
+package com.microservices.orderservice.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.microservices.orderservice.service.ProductFetcher;
+import com.microservices.orderservice.service.impl.CachingProductFetcher;
+import com.microservices.orderservice.service.impl.CoalescingProductFetcher;
+import com.microservices.orderservice.service.impl.DirectProductFetcher;
+import com.microservices.orderservice.service.impl.HedgingProductFetcher;
+import com.microservices.orderservice.service.impl.ResilientProductFetcher;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Configuration class for the beans used to resolve products from the PRODUCT-SERVICE.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableConfigurationProperties(ProductLookupProperties.class)
+public class ProductLookupConfig {
+
+    /**
+     * The name of the circuit breaker, retry and time limiter instances guarding the PRODUCT-SERVICE calls.
+     */
+    private static final String PRODUCT_SERVICE_INSTANCE = "productService";
+
+    /**
+     * Creates and returns the bounded executor on which product lookups are fanned out.
+     * On platform threads, lookups submitted once the pool and its queue are full are rejected instead of
+     * queuing without limit; on virtual threads, submitting blocks until fewer lookups than the maximum are running.
+     *
+     * @param properties The product lookup configuration properties.
+     * @return The product lookup executor.
+     */
+    @Bean
+    public AsyncTaskExecutor productLookupExecutor(ProductLookupProperties properties) {
+        ProductLookupProperties.Pool pool = properties.getPool();
+        return TaskExecutorFactory.create("product-lookup-",
+                                          pool.getMode(),
+                                          pool.getCoreSize(),
+                                          pool.getMaxSize(),
+                                          pool.getQueueCapacity());
+    }
+
+    /**
+     * Creates and returns the ProductFetcher that calls the PRODUCT-SERVICE, coalescing lookups into
+     * batched calls when enabled, hedging slow single-product calls on another instance when enabled,
+     * and issuing one call per product otherwise. The properties refuse enabling both coalescing and hedging.
+     *
+     * @param productServiceProxy   The Feign client of the PRODUCT-SERVICE.
+     * @param productLookupExecutor The bounded product lookup executor.
+     * @param properties            The product lookup configuration properties.
+     * @param discoveryClient       The provider of the client discovering the PRODUCT-SERVICE instances.
+     * @param restClientBuilder     The provider of the builder of the client calling the instances when hedging.
+     * @param meterRegistry         The registry the hedging metrics are published to.
+     * @return An implementation of the ProductFetcher interface.
+     */
+    @Bean
+    public ProductFetcher remoteProductFetcher(ProductServiceProxy productServiceProxy,
+                                               AsyncTaskExecutor productLookupExecutor,
+                                               ProductLookupProperties properties,
+                                               ObjectProvider<DiscoveryClient> discoveryClient,
+                                               ObjectProvider<RestClient.Builder> restClientBuilder,
+                                               MeterRegistry meterRegistry) {
+        ProductLookupProperties.Coalescing coalescing = properties.getCoalescing();
+        if (coalescing.isEnabled()) {
+            return new CoalescingProductFetcher(productServiceProxy,
+                                                productLookupExecutor,
+                                                coalescing.getWindow(),
+                                                coalescing.getMaxBatchSize());
+        }
+        ProductLookupProperties.Hedging hedging = properties.getHedging();
+        if (hedging.isEnabled()) {
+            // Calls abandoned at the lookup deadline would otherwise keep their pool thread.
+            ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                    .withConnectTimeout(properties.getDeadline())
+                    .withReadTimeout(properties.getDeadline());
+            RestClient restClient = restClientBuilder.getObject()
+                    .requestFactory(ClientHttpRequestFactories.get(settings))
+                    .build();
+            return new HedgingProductFetcher(discoveryClient.getObject(),
+                                             restClient,
+                                             productLookupExecutor,
+                                             hedging,
+                                             meterRegistry);
+        }
+        return new DirectProductFetcher(productServiceProxy, productLookupExecutor);
+    }
+
+    /**
+     * Creates and returns the ProductFetcher that guards every lookup of the remote ProductFetcher with
+     * the {@code productService} time limiter, circuit breaker and retry.
+     *
+     * @param remoteProductFetcher   The ProductFetcher that calls the PRODUCT-SERVICE.
+     * @param circuitBreakerRegistry The registry of the circuit breaker instances.
+     * @param retryRegistry          The registry of the retry instances.
+     * @param timeLimiterRegistry    The registry of the time limiter instances.
+     * @return An implementation of the ProductFetcher interface.
+     */
+    @Bean
+    public ProductFetcher resilientProductFetcher(@Qualifier("remoteProductFetcher") ProductFetcher remoteProductFetcher,
+                                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                                  RetryRegistry retryRegistry,
+                                                  TimeLimiterRegistry timeLimiterRegistry) {
+        return new ResilientProductFetcher(remoteProductFetcher,
+                                           circuitBreakerRegistry.circuitBreaker(PRODUCT_SERVICE_INSTANCE),
+                                           retryRegistry.retry(PRODUCT_SERVICE_INSTANCE),
+                                           timeLimiterRegistry.timeLimiter(PRODUCT_SERVICE_INSTANCE));
+    }
+
+    /**
+     * Creates and returns the ProductFetcher used to resolve products, serving them from the product cache
+     * when it is enabled and from the resilient ProductFetcher otherwise.
+     *
+     * @param resilientProductFetcher The guarded ProductFetcher that calls the PRODUCT-SERVICE.
+     * @param productLookupExecutor   The bounded product lookup executor.
+     * @param properties              The product lookup configuration properties.
+     * @param meterRegistry           The registry the product cache statistics are published to.
+     * @return An implementation of the ProductFetcher interface.
+     */
+    @Bean
+    @Primary
+    public ProductFetcher productFetcher(@Qualifier("resilientProductFetcher") ProductFetcher resilientProductFetcher,
+                                         AsyncTaskExecutor productLookupExecutor,
+                                         ProductLookupProperties properties,
+                                         MeterRegistry meterRegistry) {
+        ProductLookupProperties.Cache cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            return resilientProductFetcher;
+        }
+        CachingProductFetcher cachingProductFetcher = new CachingProductFetcher(resilientProductFetcher,
+                                                                                cache.getMaximumSize(),
+                                                                                cache.getTimeToLive(),
+                                                                                cache.getRefreshAfter(),
+                                                                                cache.getNegativeTimeToLive(),
+                                                                                productLookupExecutor,
+                                                                                Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingProductFetcher.getCache(), "productCache");
+        return cachingProductFetcher;
+    }
+}
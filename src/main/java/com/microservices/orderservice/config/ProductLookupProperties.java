@@ -0,0 +1,181 @@
+package com.microservices.orderservice.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for resolving products from the PRODUCT-SERVICE while creating orders.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "order-service.product-lookup")
+public class ProductLookupProperties {
+
+    /**
+     * The maximum time allowed to resolve all the products of a single order.
+     */
+    private Duration deadline = Duration.ofSeconds(3);
+
+    /**
+     * The settings of the bounded pool on which product lookups are fanned out.
+     */
+    private final Pool pool = new Pool();
+
+    /**
+     * The settings for coalescing concurrent single-product lookups into batched calls.
+     */
+    private final Coalescing coalescing = new Coalescing();
+
+    /**
+     * The settings of the in-process product cache.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * The settings for hedging slow single-product calls with a call to another PRODUCT-SERVICE instance.
+     */
+    private final Hedging hedging = new Hedging();
+
+    /**
+     * Returns whether at most one of coalescing and hedging is enabled, as coalesced batch calls are not hedged;
+     * the service refuses to start otherwise.
+     *
+     * @return true if coalescing and hedging are not both enabled.
+     */
+    @AssertTrue(message = "coalescing and hedging of product lookups must not be enabled together")
+    public boolean isCoalescingOrHedging() {
+        return !(coalescing.isEnabled() && hedging.isEnabled());
+    }
+
+    /**
+     * Settings of the bounded product lookup pool.
+     */
+    @Data
+    public static class Pool {
+
+        /**
+         * The kind of threads product lookups run on.
+         */
+        private ExecutorMode mode = ExecutorMode.PLATFORM;
+
+        /**
+         * The number of threads kept alive in the pool.
+         */
+        private int coreSize = 8;
+
+        /**
+         * The maximum number of threads in the pool, or the maximum number of concurrent virtual threads.
+         */
+        private int maxSize = 32;
+
+        /**
+         * The number of lookups that may wait for a free thread before new lookups are rejected.
+         */
+        private int queueCapacity = 256;
+    }
+
+    /**
+     * Settings of the product lookup coalescing.
+     */
+    @Data
+    public static class Coalescing {
+
+        /**
+         * Whether lookups are coalesced into calls to the batch endpoint of the PRODUCT-SERVICE.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The time a batch stays open for further lookups before it is dispatched.
+         */
+        private Duration window = Duration.ofMillis(5);
+
+        /**
+         * The number of distinct products that dispatches a batch before its window elapses.
+         */
+        private int maxBatchSize = 100;
+    }
+
+    /**
+     * Settings of the in-process product cache.
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * Whether products are served from the in-process cache.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The maximum number of products kept in the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * The age after which a product is no longer served from the cache.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * The age after which a product is served stale while it is reloaded in the background.
+         */
+        private Duration refreshAfter = Duration.ofMinutes(1);
+
+        /**
+         * The age after which a product unknown to the PRODUCT-SERVICE is looked up again.
+         */
+        private Duration negativeTimeToLive = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Settings of the product lookup hedging.
+     */
+    @Data
+    public static class Hedging {
+
+        /**
+         * Whether a call still running after the observed latency percentile is hedged with a call to another
+         * instance; must not be enabled together with coalescing.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The service the instances are discovered under.
+         */
+        private String serviceId = "PRODUCT-SERVICE";
+
+        /**
+         * The latency percentile, between 0 and 1, of recent calls after which a call is hedged.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * The shortest time a call runs before it is hedged, however fast recent calls were.
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * The longest time a call runs before it is hedged, also used until calls were observed.
+         */
+        private Duration maxDelay = Duration.ofMillis(500);
+
+        /**
+         * The number of hedges earned by every call, capping the hedges at this share of the calls.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * The largest number of hedges that may be sent in a burst once earned.
+         */
+        private int budgetBurst = 10;
+    }
+}
@@ -0,0 +1,61 @@
+package com.microservices.orderservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Factory of the executors whose kind of threads is selected by configuration.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+final class TaskExecutorFactory {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TaskExecutorFactory() {
+
+    }
+
+    /**
+     * Creates an executor running its tasks on a bounded pool of platform threads, or on a virtual thread per task
+     * capped at the maximum size. Virtual threads fall back to the platform pool when the JVM does not support them.
+     * The platform pool is returned uninitialized, to be initialized by the application context.
+     *
+     * @param threadNamePrefix The prefix of the names of the executor threads.
+     * @param mode             The kind of threads the tasks run on.
+     * @param coreSize         The number of threads kept alive in the platform pool.
+     * @param maxSize          The size of the platform pool, or the maximum number of concurrent virtual threads.
+     * @param queueCapacity    The number of tasks that may wait for a free platform thread before tasks are rejected.
+     * @return The executor.
+     */
+    static AsyncTaskExecutor create(String threadNamePrefix,
+                                    ExecutorMode mode,
+                                    int coreSize,
+                                    int maxSize,
+                                    int queueCapacity) {
+        if (mode == ExecutorMode.VIRTUAL) {
+            try {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+                executor.setVirtualThreads(true);
+                executor.setConcurrencyLimit(maxSize);
+                return executor;
+            } catch (UnsupportedOperationException e) {
+                log.warn("Virtual threads are not supported on Java {}, running {}* tasks on platform threads instead",
+                         Runtime.version().feature(), threadNamePrefix);
+            }
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.microservices.orderservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the order-service web layer.
+ * Streamed responses are written on a bounded executor so that large exports cannot exhaust the server;
+ * the global asynchronous request defaults are left to the container.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableConfigurationProperties({OrderQueryProperties.class, ControllerLoggingProperties.class})
+public class WebConfig {
+
+    private final OrderQueryProperties orderQueryProperties;
+
+    /**
+     * Constructs a new WebConfig.
+     *
+     * @param orderQueryProperties The order listing and streaming configuration properties.
+     */
+    public WebConfig(OrderQueryProperties orderQueryProperties) {
+        this.orderQueryProperties = orderQueryProperties;
+    }
+
+    /**
+     * Creates and returns the bounded executor on which streamed responses are written.
+     *
+     * @return The order stream executor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor orderStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("order-stream-");
+        executor.setCorePoolSize(orderQueryProperties.getStream().getMaxConcurrentStreams());
+        executor.setMaxPoolSize(orderQueryProperties.getStream().getMaxConcurrentStreams());
+        executor.setQueueCapacity(orderQueryProperties.getStream().getQueueCapacity());
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.microservices.orderservice.controller;
 
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
 import com.microservices.orderservice.dto.ErrorDto;
 import com.microservices.orderservice.exception.OrderServiceException;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -29,14 +31,24 @@ import java.util.concurrent.CompletableFuture;
 public interface OrderController {
 
     /**
-     * Retrieves a list of all orders.
+     * The request header carrying the client-chosen key under which an order creation is deduplicated.
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Retrieves a page of orders, ordered by their ID.
+     * When more orders follow, the response carries a Link header pointing to the next page.
      *
+     * @param afterOrderId The ID after which the page starts, or null for the first page.
+     * @param size         The requested number of orders, or null for the default page size.
      * @return ResponseEntity containing a list of OrderDto objects if successful.
      * @throws OrderServiceException if there is an issue with the order service.
      */
-    @Operation(summary = "Retrieve all orders.",
-            description = "Retrieve all the orders from the database.",
+    @Operation(summary = "Retrieve a page of orders.",
+            description = "Retrieve the orders following the given order id from the database, ordered by id.",
             tags = {"GET"})
+    @Parameter(name = "afterOrderId", description = "The id after which the page starts. Omit for the first page.")
+    @Parameter(name = "size", description = "The number of orders in the page, capped by the configured maximum.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Successfully retrieved the orders.",
@@ -44,18 +56,48 @@ public interface OrderController {
                             schema = @Schema(implementation = OrderDto.class))})
     })
     @GetMapping
-    ResponseEntity<List<OrderDto>> getAllOrders() throws OrderServiceException;
+    ResponseEntity<List<OrderDto>> getAllOrders(@RequestParam(required = false) Long afterOrderId,
+                                                @RequestParam(required = false) Integer size)
+            throws OrderServiceException;
+
+    /**
+     * Streams all orders as newline-delimited JSON, one order per line, ordered by their ID.
+     *
+     * @return ResponseEntity containing the emitter of the streamed orders.
+     * @throws OrderServiceException if the maximum number of concurrent streams is reached.
+     */
+    @Operation(summary = "Stream all orders.",
+            description = "Stream all the orders from the database as newline-delimited JSON.",
+            tags = {"GET"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully streamed the orders.",
+                    content = {@Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = OrderDto.class))}),
+            @ApiResponse(responseCode = "503",
+                    description = "All order streams are in use; retry later.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    ResponseEntity<ResponseBodyEmitter> streamAllOrders() throws OrderServiceException;
 
     /**
      * Creates a new order.
+     * Requests repeating the idempotency key of an earlier request return the order created by that request
+     * instead of creating another one.
      *
-     * @param orderDto The OrderDto object representing the order to be created.
+     * @param orderDto       The OrderDto object representing the order to be created.
+     * @param idempotencyKey The key under which the creation is deduplicated, or null to always create an order.
      * @return ResponseEntity containing the created OrderDto if successful.
      */
     @Operation(summary = "Creates a new order.",
             description = "Creates a new order in the database.",
             tags = {"POST"})
     @Parameter(name = "OrderDto", description = "The Dto containing information for creating a new order.")
+    @Parameter(name = IDEMPOTENCY_KEY_HEADER,
+            description = "A unique key chosen by the client; retries with the same key and order return the " +
+                    "order created by the first request.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Successfully created a new order.",
@@ -63,11 +105,60 @@ public interface OrderController {
                             schema = @Schema(implementation = OrderDto.class))}),
             @ApiResponse(responseCode = "400",
                     description = "Invalid input for creating a order.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "422",
+                    description = "The order references a product that the product-service does not know, or " +
+                            "the idempotency key was already used for a different order.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "429",
+                    description = "Order creation is at its concurrency limit; retry later.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "503",
+                    description = "The product-service is failing or its circuit is open; retry later.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "504",
+                    description = "The products could not be resolved from the product-service in time.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorDto.class))})
     })
     @PostMapping
-    CompletableFuture<ResponseEntity<OrderDto>> createOrder(@RequestBody @Valid OrderDto orderDto);
+    CompletableFuture<ResponseEntity<OrderDto>> createOrder(@RequestBody @Valid OrderDto orderDto,
+                                                            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER,
+                                                                    required = false) String idempotencyKey);
+
+    /**
+     * Creates a batch of orders, reporting the outcome of every order separately.
+     *
+     * @param orderDtoList The OrderDto objects representing the orders to be created.
+     * @return ResponseEntity containing the OrderBatchResultDto with the result of every order.
+     * @throws OrderServiceException if the batch is empty or too large, or the products cannot be resolved.
+     */
+    @Operation(summary = "Creates a batch of orders.",
+            description = "Validates every order, resolves the products of all orders at once and saves the valid " +
+                    "orders in batches. The result of every order is reported separately.",
+            tags = {"POST"})
+    @Parameter(name = "OrderDtoList", description = "The list of Dtos containing information for creating new orders.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Processed the batch; see the status of every order.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderBatchResultDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The batch is empty or contains too many orders.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "429",
+                    description = "Order creation is at its concurrency limit; retry later.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping("/batch")
+    ResponseEntity<OrderBatchResultDto> createOrders(@RequestBody List<OrderDto> orderDtoList)
+            throws OrderServiceException;
 
     /**
      * Retrieves an order by its ID.
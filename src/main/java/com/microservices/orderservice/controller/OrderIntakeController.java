@@ -0,0 +1,87 @@
+package com.microservices.orderservice.controller;
+
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Controller interface for the orders accepted for asynchronous creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Tag(name = "OrderIntakeController", description = "APIs for creating orders asynchronously")
+@RequestMapping("/orders/intake")
+public interface OrderIntakeController {
+
+    /**
+     * Accepts an order for asynchronous creation.
+     * The response carries the handle of the order and a Location header pointing to its progress.
+     *
+     * @param orderDto The OrderDto object representing the order to be created.
+     * @return ResponseEntity containing the OrderIntakeDto of the accepted order.
+     * @throws OrderServiceException if the intake is full.
+     */
+    @Operation(summary = "Accepts an order for asynchronous creation.",
+            description = "Validates the order and queues it for creation, without waiting for the "
+                    + "product-service or the database. Poll the returned location for the outcome.",
+            tags = {"POST"})
+    @Parameter(name = "OrderDto", description = "The Dto containing information for creating a new order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202",
+                    description = "Accepted the order for creation.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderIntakeDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid input for creating a order.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))}),
+            @ApiResponse(responseCode = "503",
+                    description = "The intake is full; retry later.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @PostMapping
+    ResponseEntity<OrderIntakeDto> submitOrder(@RequestBody @Valid OrderDto orderDto) throws OrderServiceException;
+
+    /**
+     * Retrieves the progress of an accepted order.
+     *
+     * @param intakeId The handle returned when the order was accepted.
+     * @return ResponseEntity containing the OrderIntakeDto with the specified ID if successful.
+     * @throws OrderServiceException if the intake is not found.
+     */
+    @Operation(summary = "Retrieves the progress of an accepted order.",
+            description = "Retrieves the state of an order accepted for asynchronous creation, with the id of the "
+                    + "created order or the reasons it was not created.",
+            tags = {"GET"})
+    @Parameter(name = "intakeId", description = "The handle returned when the order was accepted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the progress of the order.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderIntakeDto.class))}),
+            @ApiResponse(responseCode = "404",
+                    description = "order intake not found, or its outcome is no longer kept.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping("/{intakeId}")
+    ResponseEntity<OrderIntakeDto> getOrderIntake(@PathVariable Long intakeId) throws OrderServiceException;
+}
@@ -0,0 +1,96 @@
+package com.microservices.orderservice.controller;
+
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller interface for the statistics of the orders.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Tag(name = "OrderStatsController", description = "APIs for the statistics of the orders")
+@RequestMapping("/orders/stats")
+public interface OrderStatsController {
+
+    /**
+     * Retrieves the number of orders and their revenue for every day of a period with orders.
+     *
+     * @param from The first day of the period.
+     * @param to   The last day of the period.
+     * @return ResponseEntity containing a list of DailyOrderStatsDto objects, ordered by day.
+     * @throws OrderServiceException if the period is invalid.
+     */
+    @Operation(summary = "Retrieve the orders and revenue per day.",
+            description = "Retrieve the number of orders created on every day of the period and the sum of their "
+                    + "total prices. Days without orders are omitted.",
+            tags = {"GET"})
+    @Parameter(name = "from", description = "The first day of the period, as yyyy-MM-dd.")
+    @Parameter(name = "to", description = "The last day of the period, as yyyy-MM-dd.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the statistics.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DailyOrderStatsDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The period ends before it starts or is too long.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping("/daily")
+    ResponseEntity<List<DailyOrderStatsDto>> getDailyOrderStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
+            throws OrderServiceException;
+
+    /**
+     * Retrieves the products ordered most over a period.
+     *
+     * @param from  The first day of the period.
+     * @param to    The last day of the period.
+     * @param limit The requested number of products, or null for the default number.
+     * @return ResponseEntity containing a list of ProductSalesDto objects, by descending quantity.
+     * @throws OrderServiceException if the period is invalid.
+     */
+    @Operation(summary = "Retrieve the products ordered most.",
+            description = "Retrieve the products with the largest quantity ordered over the period, "
+                    + "with their revenue.",
+            tags = {"GET"})
+    @Parameter(name = "from", description = "The first day of the period, as yyyy-MM-dd.")
+    @Parameter(name = "to", description = "The last day of the period, as yyyy-MM-dd.")
+    @Parameter(name = "limit", description = "The number of products, capped by the configured maximum.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Successfully retrieved the products.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductSalesDto.class))}),
+            @ApiResponse(responseCode = "400",
+                    description = "The period ends before it starts or is too long.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorDto.class))})
+    })
+    @GetMapping("/top-products")
+    ResponseEntity<List<ProductSalesDto>> getTopProducts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit)
+            throws OrderServiceException;
+}
@@ -1,8 +1,8 @@
 package com.microservices.orderservice.controller.advice;
 
 import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.exception.ErrorCatalogue;
 import com.microservices.orderservice.exception.OrderServiceException;
-import com.microservices.orderservice.utility.PropertiesFileReader;
 import jakarta.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +34,7 @@ import java.util.List;
 public class OrderServiceExceptionHandler extends ResponseEntityExceptionHandler {
 
     private final MessageSource messageSource;
+    private final ErrorCatalogue errorCatalogue;
 
     /**
      * Handles exceptions specific to the OrderService.
@@ -43,12 +44,7 @@ public class OrderServiceExceptionHandler extends ResponseEntityExceptionHandler
      */
     @ExceptionHandler(OrderServiceException.class)
     public final ResponseEntity<ErrorDto> handleOrderServiceException(final OrderServiceException ex) {
-                ErrorDto errorDetails = new ErrorDto(
-                Integer.parseInt(PropertiesFileReader.getProperties("classpath:errorcode.properties")
-                                                     .getProperty(ex.getMessage())),
-                PropertiesFileReader.getProperties("classpath:messages.properties")
-                                    .getProperty(ex.getMessage()),
-                LocalDateTime.now());
+        ErrorDto errorDetails = errorCatalogue.getErrorDto(ex.getMessage());
         return new ResponseEntity<>(errorDetails, ex.getHttpStatus());
     }
 
@@ -1,18 +1,28 @@
 package com.microservices.orderservice.controller.aop;
 
+import com.microservices.orderservice.config.ControllerLoggingProperties;
+import com.microservices.orderservice.exception.ErrorCatalogue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
-import org.springframework.context.MessageSource;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Aspect for logging method executions in the ProductService controllers.
+ * Aspect for logging and timing method executions in the OrderService controllers.
+ * Every controller method is timed by a Micrometer timer named {@value #TIMER_NAME}, tagged with its class,
+ * method and outcome; methods returning a CompletionStage are timed until the stage completes.
  *
  * @author priyanshu
  * @version 1.0
@@ -24,7 +34,15 @@ import java.util.Locale;
 @Component
 public class LoggingAspect {
 
-    private final MessageSource messageSource;
+    /**
+     * The name of the timer of the controller methods.
+     */
+    public static final String TIMER_NAME = "order.controller.requests";
+
+    private final ErrorCatalogue errorCatalogue;
+    private final MeterRegistry meterRegistry;
+    private final ControllerLoggingProperties properties;
+    private final Map<Method, MethodMetadata> methodMetadataCache = new ConcurrentHashMap<>();
 
     /**
      * Pointcut definition for all methods in the OrderService controllers.
@@ -34,64 +52,84 @@ public class LoggingAspect {
     }
 
     /**
-     * Advice to log method entry and input arguments before execution.
+     * Advice to log method entry and exit, time the method execution and log the exception if one occurs.
+     * Arguments and return values are only logged when payload logging is enabled.
      *
-     * @param joinPoint The JoinPoint representing the method execution.
+     * @param pjp The ProceedingJoinPoint representing the method execution.
+     * @return The return value of the method.
+     * @throws Throwable If an exception occurs during method execution.
      */
-    @Before("controller()")
-    public void logRequestData(JoinPoint joinPoint) {
-        log.debug("Entering in {} : {}()", joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
+    @Around(value = "controller()")
+    public Object trackTime(ProceedingJoinPoint pjp) throws Throwable {
+        MethodMetadata metadata = methodMetadataCache.computeIfAbsent(
+                ((MethodSignature) pjp.getSignature()).getMethod(), this::createMethodMetadata);
+        log.debug("Entering in {} : {}()", metadata.typeName(), metadata.methodName());
+        if (properties.isPayloadsEnabled() && log.isDebugEnabled()) {
+            log.debug("Method arguments : {}", Arrays.toString(pjp.getArgs()));
+        }
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable e) {
+            complete(metadata, startTime, null, e);
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, e) -> complete(metadata, startTime, value, e));
+        } else {
+            complete(metadata, startTime, result, null);
+        }
+        return result;
+    }
+
+    private void complete(MethodMetadata metadata, long startTime, Object result, Throwable throwable) {
+        long duration = System.nanoTime() - startTime;
+        if (throwable == null) {
+            metadata.successTimer().record(duration, TimeUnit.NANOSECONDS);
+            if (properties.isPayloadsEnabled()) {
+                log.debug("Method return value : {}", result);
+            }
+            log.debug("Exiting from {} : {}()", metadata.typeName(), metadata.methodName());
+        } else {
+            metadata.errorTimer().record(duration, TimeUnit.NANOSECONDS);
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                    throwable.getCause() : throwable;
+            log.error("Exception occurred inside {} : {}() because : {}",
+                      metadata.typeName(),
+                      metadata.methodName(),
+                      cause.getMessage() != null ? errorCatalogue.getMessage(cause.getMessage()) : "NULL");
+        }
         if (log.isDebugEnabled()) {
-            log.debug("Method arguments : {}", Arrays.toString(joinPoint.getArgs()));
+            log.debug("{} {} took {} ms to execute",
+                      metadata.typeName(),
+                      metadata.methodName(),
+                      TimeUnit.NANOSECONDS.toMillis(duration));
         }
     }
 
-    /**
-     * Advice to log method exit and return value after successful execution.
-     *
-     * @param joinPoint The JoinPoint representing the method execution.
-     * @param result    The return value of the method.
-     */
-    @AfterReturning(value = "controller()", returning = "result")
-    public void logResponseData(JoinPoint joinPoint, Object result) {
-        log.debug("Method return value : {}", result);
-        log.debug("Exiting from {} : {}()",
-                  joinPoint.getSignature().getDeclaringTypeName(),
-                  joinPoint.getSignature().getName());
+    private MethodMetadata createMethodMetadata(Method method) {
+        return new MethodMetadata(method.getDeclaringClass().getName(),
+                                  method.getName(),
+                                  createTimer(method, "SUCCESS"),
+                                  createTimer(method, "ERROR"));
     }
 
-    /**
-     * Advice to log method exceptions and error details if an exception occurs during execution.
-     *
-     * @param joinPoint The JoinPoint representing the method execution.
-     * @param e         The Throwable representing the exception.
-     */
-    @AfterThrowing(value = "controller()", throwing = "e")
-    public void logMethodCrash(JoinPoint joinPoint, Throwable e) {
-        log.error("Exception occurred inside {} : {}() because : {}",
-                  joinPoint.getSignature().getDeclaringTypeName(),
-                  joinPoint.getSignature().getName(),
-                  e.getMessage() != null ?
-                          messageSource.getMessage(e.getMessage(), null, Locale.getDefault()) :
-                          "NULL");
+    private Timer createTimer(Method method, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Duration of the order-service controller methods")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .publishPercentiles(properties.getPercentiles())
+                .register(meterRegistry);
     }
 
     /**
-     * Advice to log method execution time.
-     *
-     * @param pjp The ProceedingJoinPoint representing the method execution.
-     * @return The return value of the method.
-     * @throws Throwable If an exception occurs during method execution.
+     * The names and timers of a controller method, built on its first call so that no strings or tags
+     * are built on later calls.
      */
-    @Around(value = "controller()")
-    public Object trackTime(ProceedingJoinPoint pjp) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object obj = pjp.proceed();
-        long endTime = System.currentTimeMillis();
-        log.debug("{} {} took {} ms to execute",
-                  pjp.getSignature().getDeclaringTypeName(),
-                  pjp.getSignature().getName(),
-                  (endTime - startTime));
-        return obj;
+    private record MethodMetadata(String typeName, String methodName, Timer successTimer, Timer errorTimer) {
     }
 }
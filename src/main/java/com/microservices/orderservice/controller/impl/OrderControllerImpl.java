@@ -1,25 +1,34 @@
 package com.microservices.orderservice.controller.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.config.OrderQueryProperties;
 import com.microservices.orderservice.controller.OrderController;
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
-import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.dto.OrderPageDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.IdempotencyStore;
 import com.microservices.orderservice.service.OrderService;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
-import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.time.LocalDateTime;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
-import static com.microservices.orderservice.constants.Constants.DUMMY_ORDER_DTO;
+import static com.microservices.orderservice.utility.ExceptionConstant.STREAM_ALL_ORDERS_REJECTED;
 
 
 /**
@@ -29,65 +38,118 @@ import static com.microservices.orderservice.constants.Constants.DUMMY_ORDER_DTO
  * @version 1.0
  * @since 23/02/2024
  */
-@Slf4j
 @RequiredArgsConstructor
 @RestController
 public class OrderControllerImpl implements OrderController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    @Qualifier("createOrderExecutor")
+    private final AsyncTaskExecutor createOrderExecutor;
+    private final IdempotencyStore idempotencyStore;
+    @Qualifier("orderStreamExecutor")
+    private final AsyncTaskExecutor orderStreamExecutor;
+    private final OrderQueryProperties orderQueryProperties;
 
     /**
-     * Retrieves a list of all orders.
+     * Retrieves a page of orders, ordered by their ID.
      *
+     * @param afterOrderId The ID after which the page starts, or null for the first page.
+     * @param size         The requested number of orders, or null for the default page size.
      * @return ResponseEntity containing a list of OrderDto objects if successful.
      */
     @Override
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        return new ResponseEntity<>(orderService.getAllOrders(), HttpStatus.OK);
+    public ResponseEntity<List<OrderDto>> getAllOrders(Long afterOrderId, Integer size) {
+        OrderPageDto orderPageDto = orderService.getAllOrders(afterOrderId, size);
+        HttpHeaders headers = new HttpHeaders();
+        if (orderPageDto.getNextOrderId() != null) {
+            String nextPageUrl = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("afterOrderId", orderPageDto.getNextOrderId())
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + nextPageUrl + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(orderPageDto.getOrderDtoList(), headers, HttpStatus.OK);
     }
 
     /**
-     * Creates a new order.
+     * Streams all orders as newline-delimited JSON, one order per line, ordered by their ID.
+     * The orders are written on the order stream executor under the stream timeout, in chunks so that
+     * the response is not flushed after every order.
      *
-     * @param orderDto The OrderDto object representing the order to be created.
-     * @return ResponseEntity containing the created OrderDto if successful.
+     * @return ResponseEntity containing the emitter of the streamed orders.
+     * @throws OrderServiceException if the maximum number of concurrent streams is reached.
      */
     @Override
-    @Retry(name = "retryProductService", fallbackMethod = "retryProductServiceFallback")
-    @CircuitBreaker(name = "orderCircuitBreaker", fallbackMethod = "orderCircuitBreakerFallback")
-    @RateLimiter(name = "orderRateLimiter", fallbackMethod = "orderRateLimiterFallback")
-    @TimeLimiter(name = "orderTimeLimiter", fallbackMethod = "orderTimeLimiterFallback")
-    @Bulkhead(name = "orderBulkHead", fallbackMethod = "orderBulkHeadFallback")
-    public CompletableFuture<ResponseEntity<OrderDto>> createOrder(OrderDto orderDto) {
-        return CompletableFuture.supplyAsync(() -> orderService.createOrder(orderDto))
-                .thenApply(order -> ResponseEntity.status(HttpStatus.CREATED).body(order));
-    }
-
-    public ResponseEntity<OrderDto> orderCircuitBreakerFallback(Exception ex) {
-        log.info("product-service is down due to {}", ex.getMessage());
-        return new ResponseEntity<>(DUMMY_ORDER_DTO, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseEntity<ResponseBodyEmitter> streamAllOrders() {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(orderQueryProperties.getStream().getTimeout().toMillis());
+        try {
+            orderStreamExecutor.execute(() -> writeAllOrders(emitter));
+        } catch (RejectedExecutionException e) {
+            throw new OrderServiceException(STREAM_ALL_ORDERS_REJECTED, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(emitter);
     }
 
-    public ResponseEntity<OrderDto> retryProductServiceFallback(Exception ex) {
-        log.info("maximum retry limit has been reached due to {}", ex.getMessage());
-        return new ResponseEntity<>(DUMMY_ORDER_DTO, HttpStatus.BAD_REQUEST);
+    private void writeAllOrders(ResponseBodyEmitter emitter) {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(STREAM_CHUNK_SIZE);
+        try (JsonGenerator generator = objectMapper.createGenerator(chunk)) {
+            generator.setRootValueSeparator(null);
+            orderService.streamAllOrders(orderDto -> {
+                try {
+                    objectMapper.writeValue(generator, orderDto);
+                    generator.writeRaw('\n');
+                    generator.flush();
+                    if (chunk.size() >= STREAM_CHUNK_SIZE) {
+                        emitter.send(chunk.toByteArray(), APPLICATION_NDJSON);
+                        chunk.reset();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+            if (chunk.size() > 0) {
+                emitter.send(chunk.toByteArray(), APPLICATION_NDJSON);
+            }
+            emitter.complete();
+        } catch (IOException | RuntimeException e) {
+            // Also reached once the client went away or the stream timed out, which ends the export early.
+            emitter.completeWithError(e);
+        }
     }
 
-    public ResponseEntity<OrderDto> orderBulkHeadFallback(Exception ex) {
-        log.info("order-service does not permit further calls due to {}", ex.getMessage());
-        return new ResponseEntity<>(DUMMY_ORDER_DTO, HttpStatus.GATEWAY_TIMEOUT);
-    }
-
-    public ResponseEntity<OrderDto> orderRateLimiterFallback(Exception ex) {
-        log.info("order-service does not permit further calls due to {}", ex.getMessage());
-        return new ResponseEntity<>(DUMMY_ORDER_DTO, HttpStatus.TOO_MANY_REQUESTS);
+    /**
+     * Creates a new order on the create order executor, at most once per idempotency key.
+     * Failures of the PRODUCT-SERVICE are handled per product lookup, so the order itself is never retried.
+     *
+     * @param orderDto       The OrderDto object representing the order to be created.
+     * @param idempotencyKey The key under which the creation is deduplicated, or null to always create an order.
+     * @return ResponseEntity containing the created OrderDto if successful.
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<OrderDto>> createOrder(OrderDto orderDto, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return CompletableFuture.supplyAsync(
+                    () -> ResponseEntity.status(HttpStatus.CREATED).body(orderService.createOrder(orderDto)),
+                    createOrderExecutor);
+        }
+        return idempotencyStore.submit(idempotencyKey, orderDto, () -> CompletableFuture.supplyAsync(
+                        () -> orderService.createOrder(orderDto), createOrderExecutor))
+                .thenApply(createdOrderDto -> ResponseEntity.status(HttpStatus.CREATED).body(createdOrderDto));
     }
 
-    public CompletableFuture<ResponseEntity<OrderDto>> orderTimeLimiterFallback(Exception ex) {
-        log.info("order-service does not permit further calls in this time interval due to {}", ex.getMessage());
-        OrderLineDto orderLineDto = new OrderLineDto(1001L, 1002L, 500, null);
-        OrderDto orderDto = new OrderDto(1000L, LocalDateTime.now(), LocalDateTime.now(), 1000.0, List.of(orderLineDto));
-        return CompletableFuture.completedFuture(new ResponseEntity<>(orderDto, HttpStatus.REQUEST_TIMEOUT));
+    /**
+     * Creates a batch of orders, reporting the outcome of every order separately.
+     *
+     * @param orderDtoList The OrderDto objects representing the orders to be created.
+     * @return ResponseEntity containing the OrderBatchResultDto with the result of every order.
+     */
+    @Override
+    public ResponseEntity<OrderBatchResultDto> createOrders(List<OrderDto> orderDtoList) {
+        return new ResponseEntity<>(orderService.createOrders(orderDtoList), HttpStatus.OK);
     }
 
     /**
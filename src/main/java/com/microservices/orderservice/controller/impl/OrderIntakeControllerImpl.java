@@ -0,0 +1,55 @@
+package com.microservices.orderservice.controller.impl;
+
+import com.microservices.orderservice.controller.OrderIntakeController;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+import com.microservices.orderservice.service.OrderIntakeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Implementation of the {@link OrderIntakeController} interface that handles HTTP requests for the orders
+ * accepted for asynchronous creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+public class OrderIntakeControllerImpl implements OrderIntakeController {
+
+    private final OrderIntakeService orderIntakeService;
+
+    /**
+     * Accepts an order for asynchronous creation.
+     *
+     * @param orderDto The OrderDto object representing the order to be created.
+     * @return ResponseEntity containing the OrderIntakeDto of the accepted order.
+     */
+    @Override
+    public ResponseEntity<OrderIntakeDto> submitOrder(OrderDto orderDto) {
+        OrderIntakeDto orderIntakeDto = orderIntakeService.submitOrder(orderDto);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequest()
+                                    .path("/{intakeId}")
+                                    .buildAndExpand(orderIntakeDto.getIntakeId())
+                                    .toUri());
+        return new ResponseEntity<>(orderIntakeDto, headers, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Retrieves the progress of an accepted order.
+     *
+     * @param intakeId The handle returned when the order was accepted.
+     * @return ResponseEntity containing the OrderIntakeDto with the specified ID if successful.
+     */
+    @Override
+    public ResponseEntity<OrderIntakeDto> getOrderIntake(Long intakeId) {
+        return new ResponseEntity<>(orderIntakeService.getOrderIntake(intakeId), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservices.orderservice.controller.impl;
+
+import com.microservices.orderservice.controller.OrderStatsController;
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+import com.microservices.orderservice.service.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the {@link OrderStatsController} interface that handles HTTP requests for order statistics.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+public class OrderStatsControllerImpl implements OrderStatsController {
+
+    private final OrderStatsService orderStatsService;
+
+    /**
+     * Retrieves the number of orders and their revenue for every day of a period with orders.
+     *
+     * @param from The first day of the period.
+     * @param to   The last day of the period.
+     * @return ResponseEntity containing a list of DailyOrderStatsDto objects, ordered by day.
+     */
+    @Override
+    public ResponseEntity<List<DailyOrderStatsDto>> getDailyOrderStats(LocalDate from, LocalDate to) {
+        return new ResponseEntity<>(orderStatsService.getDailyOrderStats(from, to), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the products ordered most over a period.
+     *
+     * @param from  The first day of the period.
+     * @param to    The last day of the period.
+     * @param limit The requested number of products, or null for the default number.
+     * @return ResponseEntity containing a list of ProductSalesDto objects, by descending quantity.
+     */
+    @Override
+    public ResponseEntity<List<ProductSalesDto>> getTopProducts(LocalDate from, LocalDate to, Integer limit) {
+        return new ResponseEntity<>(orderStatsService.getTopProducts(from, to, limit), HttpStatus.OK);
+    }
+}
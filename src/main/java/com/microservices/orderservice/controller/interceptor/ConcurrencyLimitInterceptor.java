@@ -0,0 +1,86 @@
+package com.microservices.orderservice.controller.interceptor;
+
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.ConcurrencyLimiter;
+import com.microservices.orderservice.service.ConcurrencyLimiter.Permit;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor admitting the POST requests it is registered for through a {@link ConcurrencyLimiter}.
+ * A request beyond the limit is rejected with 429 Too Many Requests, under the exception key the interceptor was
+ * registered with, before its body is even read.
+ * The permit of an admitted request is held until the request completes, after its asynchronous dispatch if any,
+ * and released with the outcome told by the response status: server errors and timeouts back the limit off,
+ * client errors do not count.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final String overloadedExceptionKey;
+
+    /**
+     * Acquires a permit for a POST request, unless the request already holds one from its first dispatch.
+     *
+     * @param request  The current request.
+     * @param response The current response.
+     * @param handler  The handler of the request.
+     * @return Always true; rejected requests are signalled by the exception.
+     * @throws OrderServiceException if the concurrency limit is reached.
+     */
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        // GET requests share the path of the order creation.
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        Permit permit = concurrencyLimiter.tryAcquire().orElseThrow(() -> {
+            log.warn("Rejecting order creation at concurrency limit {}", concurrencyLimiter.getLimit());
+            return new OrderServiceException(overloadedExceptionKey, HttpStatus.TOO_MANY_REQUESTS);
+        });
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    /**
+     * Releases the permit of the completed request with its outcome.
+     *
+     * @param request  The current request.
+     * @param response The current response.
+     * @param handler  The handler of the request.
+     * @param ex       The exception not handled by the exception handlers, if any.
+     */
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request,
+                                @NonNull HttpServletResponse response,
+                                @NonNull Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        int status = response.getStatus();
+        if (ex != null || status >= 500 || status == HttpStatus.REQUEST_TIMEOUT.value()) {
+            permit.onDropped();
+        } else if (status >= 400) {
+            permit.onIgnore();
+        } else {
+            permit.onSuccess();
+        }
+    }
+}
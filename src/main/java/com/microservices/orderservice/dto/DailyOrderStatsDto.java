@@ -0,0 +1,44 @@
+package com.microservices.orderservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.microservices.orderservice.utility.MoneyDeserializer;
+import com.microservices.orderservice.utility.MoneySerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) representing the number of orders created on a day and their revenue.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyOrderStatsDto {
+
+    /**
+     * The day on which the orders were created.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    /**
+     * The number of orders created on the day.
+     */
+    private long orderCount;
+
+    /**
+     * The sum of the total prices of the orders in minor units, exchanged in JSON as a decimal number of
+     * currency units.
+     */
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long revenue;
+}
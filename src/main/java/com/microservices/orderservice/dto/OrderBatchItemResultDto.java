@@ -0,0 +1,63 @@
+package com.microservices.orderservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of a single order of a batch order creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderBatchItemResultDto {
+
+    /**
+     * The position of the order in the submitted batch, starting at zero.
+     */
+    private int index;
+
+    /**
+     * The outcome of the order.
+     */
+    private Status status;
+
+    /**
+     * The created order, present only when the status is CREATED.
+     */
+    private OrderDto orderDto;
+
+    /**
+     * The reasons the order was not created, present only when the status is not CREATED.
+     */
+    private List<ErrorDto> errors;
+
+    /**
+     * Outcome of a single order of a batch.
+     */
+    public enum Status {
+
+        /**
+         * The order was saved.
+         */
+        CREATED,
+
+        /**
+         * The order failed validation and was not saved.
+         */
+        INVALID,
+
+        /**
+         * The order was valid but could not be saved.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,35 @@
+package com.microservices.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of a batch order creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchResultDto {
+
+    /**
+     * The number of orders of the batch that were created.
+     */
+    private int createdCount;
+
+    /**
+     * The number of orders of the batch that were rejected or could not be saved.
+     */
+    private int failedCount;
+
+    /**
+     * The result of every order of the batch, in the order they were submitted.
+     */
+    private List<OrderBatchItemResultDto> results;
+}
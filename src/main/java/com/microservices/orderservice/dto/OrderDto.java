@@ -1,6 +1,10 @@
 package com.microservices.orderservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.microservices.orderservice.utility.MoneyDeserializer;
+import com.microservices.orderservice.utility.MoneySerializer;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -44,9 +48,11 @@ public class OrderDto {
     private LocalDateTime modifiedDate;
 
     /**
-     * The total price of the order.
+     * The total price of the order in minor units, exchanged in JSON as a decimal number of currency units.
      */
-    private double totalPrice;
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
 
     /**
      * The list of order lines associated with the order.
@@ -0,0 +1,50 @@
+package com.microservices.orderservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing an order event published to downstream systems.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderEventDto {
+
+    /**
+     * The unique identifier for the event, increasing in the order the events were recorded;
+     * consumers use it to discard events delivered more than once.
+     */
+    private long eventId;
+
+    /**
+     * The kind of the event.
+     */
+    private OrderEventType eventType;
+
+    /**
+     * The unique identifier for the order the event is about.
+     */
+    private long orderId;
+
+    /**
+     * The date and time when the event was recorded.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime occurredDate;
+
+    /**
+     * The order as JSON, as it was after its creation or before its deletion.
+     */
+    @JsonRawValue
+    private String payload;
+}
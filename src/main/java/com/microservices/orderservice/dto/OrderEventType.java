@@ -0,0 +1,21 @@
+package com.microservices.orderservice.dto;
+
+/**
+ * The kinds of order events published to downstream systems.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum OrderEventType {
+
+    /**
+     * An order was created.
+     */
+    ORDER_CREATED,
+
+    /**
+     * An order was deleted.
+     */
+    ORDER_DELETED
+}
@@ -0,0 +1,56 @@
+package com.microservices.orderservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing an order accepted for asynchronous creation and its progress.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderIntakeDto {
+
+    /**
+     * The handle under which the progress of the order is polled.
+     */
+    private long intakeId;
+
+    /**
+     * The state of the order.
+     */
+    private OrderIntakeStatus status;
+
+    /**
+     * The unique identifier of the created order, present only when the status is CREATED.
+     */
+    private Long orderId;
+
+    /**
+     * The reasons the order was not created, present only when the status is INVALID or FAILED.
+     */
+    private List<ErrorDto> errors;
+
+    /**
+     * The date and time when the order was accepted.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime submittedDate;
+
+    /**
+     * The date and time when the creation of the order completed, present only once it completed.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime completedDate;
+}
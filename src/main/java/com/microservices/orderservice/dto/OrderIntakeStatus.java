@@ -0,0 +1,36 @@
+package com.microservices.orderservice.dto;
+
+/**
+ * The states of an order accepted for asynchronous creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum OrderIntakeStatus {
+
+    /**
+     * The order is waiting for a worker.
+     */
+    PENDING,
+
+    /**
+     * A worker is creating the order.
+     */
+    PROCESSING,
+
+    /**
+     * The order was created.
+     */
+    CREATED,
+
+    /**
+     * The order failed validation and was not created.
+     */
+    INVALID,
+
+    /**
+     * The order was valid but could not be created.
+     */
+    FAILED
+}
@@ -1,6 +1,11 @@
 package com.microservices.orderservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.microservices.orderservice.utility.MoneyDeserializer;
+import com.microservices.orderservice.utility.MoneySerializer;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -42,6 +47,21 @@ public class OrderLineDto {
     @Max(value = 1000, message = QUANTITY_MAXIMUM_VALUE)
     private Integer quantity;
 
+    /**
+     * The name of the product when the order was created; set by the order-service and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String productName;
+
+    /**
+     * The unit price of the product in minor units when the order was created, exchanged in JSON as a decimal
+     * number of currency units; set by the order-service and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private Long unitPrice;
+
     /**
      * The OrderDto object representing the order to which the order line belongs.
      */
@@ -0,0 +1,30 @@
+package com.microservices.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a page of orders retrieved by keyset pagination.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderPageDto {
+
+    /**
+     * The orders of the page, ordered by their unique identifier.
+     */
+    private List<OrderDto> orderDtoList;
+
+    /**
+     * The unique identifier after which the next page starts, or null if this is the last page.
+     */
+    private Long nextOrderId;
+}
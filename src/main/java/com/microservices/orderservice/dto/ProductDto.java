@@ -1,5 +1,9 @@
 package com.microservices.orderservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.microservices.orderservice.utility.MoneyDeserializer;
+import com.microservices.orderservice.utility.MoneySerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -27,8 +31,10 @@ public class ProductDto {
     private String productName;
 
     /**
-     * The price of the product.
+     * The price of the product in minor units, exchanged in JSON as a decimal number of currency units.
      */
-    private double productPrice;
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long productPrice;
 }
 
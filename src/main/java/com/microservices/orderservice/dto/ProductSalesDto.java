@@ -0,0 +1,45 @@
+package com.microservices.orderservice.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.microservices.orderservice.utility.MoneyDeserializer;
+import com.microservices.orderservice.utility.MoneySerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the quantity of a product ordered over a period and its revenue.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSalesDto {
+
+    /**
+     * The unique identifier for the product.
+     */
+    private long productId;
+
+    /**
+     * The name of the product when it was last ordered, or null if it was only ordered before names were kept.
+     */
+    private String productName;
+
+    /**
+     * The total quantity of the product over the orders of the period.
+     */
+    private long quantity;
+
+    /**
+     * The sum of the unit prices times the quantities of the order lines in minor units, exchanged in JSON as
+     * a decimal number of currency units; order lines created before prices were kept are not counted.
+     */
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long revenue;
+}
@@ -1,12 +1,12 @@
 package com.microservices.orderservice.entity;
 
+import com.microservices.orderservice.utility.MoneyUtils;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
-import org.hibernate.annotations.DynamicInsert;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +16,7 @@ import java.util.List;
 
 /**
  * Entity class representing an order in the system.
+ * Orders flagged as deleted are excluded from every query.
  *
  * @author priyanshu
  * @version 1.0
@@ -24,19 +25,20 @@ import java.util.List;
 @Data
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "order_tbl")
+@Table(name = "order_tbl", indexes = @Index(name = "idx_order_created_date", columnList = "createdDate"))
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode
-@DynamicInsert
 @DynamicUpdate
+@SQLRestriction("deleted = false")
 public class Order {
 
     /**
-     * The unique identifier for the order.
+     * The unique identifier for the order, drawn from a pooled sequence so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_generator")
+    @SequenceGenerator(name = "order_id_generator", sequenceName = "order_seq", allocationSize = 50)
     private long orderId;
 
     /**
@@ -52,9 +54,23 @@ public class Order {
     private LocalDateTime modifiedDate;
 
     /**
-     * The total price of the order.
+     * The total price of the order in minor units, converted from the currency units of an order written by an
+     * earlier version of the order-service.
      */
-    private double totalPrice;
+    @Column(name = "total_price_minor")
+    @ColumnTransformer(read = "coalesce(total_price_minor, round(total_price * 100))")
+    private long totalPrice;
+
+    /**
+     * The total price of the order in currency units, written for earlier versions of the order-service, which
+     * read it, and never read.
+     */
+    @Column(name = "total_price")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private double currencyUnitsTotalPrice;
 
     /**
      * The list of order lines associated with the order.
@@ -62,5 +78,20 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderLine> orderLineList;
 
+    /**
+     * Whether the order was soft-deleted.
+     */
+    @ColumnDefault("false")
+    private boolean deleted;
+
+    /**
+     * Copies the total price to the column earlier versions of the order-service read.
+     */
+    @PrePersist
+    @PreUpdate
+    void writeCurrencyUnitsTotalPrice() {
+        currencyUnitsTotalPrice = MoneyUtils.toDecimal(totalPrice).doubleValue();
+    }
+
 }
 
@@ -0,0 +1,94 @@
+package com.microservices.orderservice.entity;
+
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an order accepted for asynchronous creation, kept until the intake retention
+ * has passed after its creation completed.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@Entity
+@Table(name = "order_intake", indexes = @Index(name = "idx_order_intake_status", columnList = "status"))
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderIntake {
+
+    /**
+     * The unique identifier for the intake, allocated in blocks of 50 ahead of the insert.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_intake_id_generator")
+    @SequenceGenerator(name = "order_intake_id_generator", sequenceName = "order_intake_seq", allocationSize = 50)
+    private Long intakeId;
+
+    /**
+     * The version of the intake, so that two workers never claim the same intake.
+     */
+    @Version
+    private long version;
+
+    /**
+     * The state of the order.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OrderIntakeStatus status;
+
+    /**
+     * The submitted order as JSON, in a column long enough for any order, {@code longtext} on MySQL.
+     */
+    @Lob
+    @Column(nullable = false, length = Length.LONG32)
+    @ToString.Exclude
+    private String payload;
+
+    /**
+     * The number of times a worker claimed the intake.
+     */
+    private int attempts;
+
+    /**
+     * The unique identifier of the created order.
+     */
+    private Long orderId;
+
+    /**
+     * The reasons the order was not created, as JSON, {@code longtext} on MySQL.
+     */
+    @Lob
+    @Column(length = Length.LONG32)
+    private String errors;
+
+    /**
+     * The date and time when the order was accepted.
+     */
+    @Column(nullable = false)
+    private LocalDateTime submittedDate;
+
+    /**
+     * The date and time when a worker last claimed the intake.
+     */
+    private LocalDateTime claimedDate;
+
+    /**
+     * The date and time before which an intake released after a failed attempt is not claimed again.
+     */
+    private LocalDateTime nextAttemptDate;
+
+    /**
+     * The date and time when the creation of the order completed.
+     */
+    private LocalDateTime completedDate;
+}
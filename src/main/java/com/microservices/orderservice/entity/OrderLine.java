@@ -3,7 +3,6 @@ package com.microservices.orderservice.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
 /**
@@ -15,19 +14,19 @@ import org.hibernate.annotations.DynamicUpdate;
  */
 @Data
 @Entity
-@Table(name = "order_line")
+@Table(name = "order_line", indexes = @Index(name = "idx_order_line_order_product", columnList = "order_id, productId"))
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode
-@DynamicInsert
 @DynamicUpdate
 public class OrderLine {
 
     /**
-     * The unique identifier for the order line.
+     * The unique identifier for the order line, allocated in blocks of 50 ahead of the insert.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_id_generator")
+    @SequenceGenerator(name = "order_line_id_generator", sequenceName = "order_line_seq", allocationSize = 50)
     private Long orderLineId;
 
     /**
@@ -40,6 +39,17 @@ public class OrderLine {
      */
     private int quantity;
 
+    /**
+     * The name of the product when the order was created.
+     */
+    private String productName;
+
+    /**
+     * The unit price of the product in minor units when the order was created, or null for lines created before
+     * prices were kept.
+     */
+    private Long unitPrice;
+
     /**
      * The Order entity to which the order line belongs.
      */
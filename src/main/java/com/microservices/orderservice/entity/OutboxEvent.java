@@ -0,0 +1,61 @@
+package com.microservices.orderservice.entity;
+
+import com.microservices.orderservice.dto.OrderEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an order event recorded in the same transaction as the change of the order,
+ * and deleted once the outbox relay has published it.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@Entity
+@Table(name = "outbox_event")
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * The unique identifier for the event, allocated in blocks of 50 ahead of the insert.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_generator")
+    @SequenceGenerator(name = "outbox_event_id_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long eventId;
+
+    /**
+     * The kind of the event.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OrderEventType eventType;
+
+    /**
+     * The unique identifier for the order the event is about.
+     */
+    private long orderId;
+
+    /**
+     * The date and time when the event was recorded.
+     */
+    @Column(nullable = false)
+    private LocalDateTime occurredDate;
+
+    /**
+     * The order as JSON, in a column long enough for any order, {@code longtext} on MySQL.
+     */
+    @Lob
+    @Column(nullable = false, length = Length.LONG32)
+    @ToString.Exclude
+    private String payload;
+}
@@ -0,0 +1,106 @@
+package com.microservices.orderservice.exception;
+
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.utility.PropertiesFileReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Catalogue of the error codes and messages of the order-service, read once from {@code errorcode.properties}
+ * and {@code messages.properties} instead of on every error response.
+ * The catalogue is immutable; {@link #reload()} reads the files again and swaps in a new catalogue atomically.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+public class ErrorCatalogue {
+
+    private static final String ERROR_CODE_FILE_PATH = "classpath:errorcode.properties";
+    private static final String MESSAGES_FILE_PATH = "classpath:messages.properties";
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs the catalogue, reading the error codes and messages from the classpath.
+     */
+    public ErrorCatalogue() {
+        this.snapshot = load();
+    }
+
+    /**
+     * Returns the error response of the given error key, stamped with the current time.
+     * A key without an error code is reported as an internal server error carrying the key itself.
+     *
+     * @param key The key of the error, one of the ExceptionConstant values.
+     * @return The ErrorDto of the error.
+     */
+    public ErrorDto getErrorDto(String key) {
+        ErrorDto template = snapshot.errorDtos().get(key);
+        // Templates are shared by every caller, so each response gets its own copy carrying the current time.
+        if (template == null) {
+            log.warn("No error code is defined for {}", key);
+            return new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR.value(), key, LocalDateTime.now());
+        }
+        return new ErrorDto(template.getStatusCode(), template.getMessage(), LocalDateTime.now());
+    }
+
+    /**
+     * Returns the message of the given key.
+     *
+     * @param key The key of the message, one of the ExceptionConstant or ValidationConstant values.
+     * @return The message, or the key itself if no message is defined for it.
+     */
+    public String getMessage(String key) {
+        return snapshot.messages().getOrDefault(key, key);
+    }
+
+    /**
+     * Returns the error code and message of every error, keyed by error key.
+     *
+     * @return The unmodifiable error templates, whose timestamps are not set.
+     */
+    public Map<String, ErrorDto> getErrorDtos() {
+        return snapshot.errorDtos();
+    }
+
+    /**
+     * Reads the error codes and messages again, replacing the catalogue once both files are read.
+     *
+     * @return The number of errors in the new catalogue.
+     */
+    public int reload() {
+        Snapshot reloaded = load();
+        snapshot = reloaded;
+        log.info("Error catalogue reloaded with {} errors", reloaded.errorDtos().size());
+        return reloaded.errorDtos().size();
+    }
+
+    private static Snapshot load() {
+        Properties errorCodes = PropertiesFileReader.getProperties(ERROR_CODE_FILE_PATH);
+        Properties messages = PropertiesFileReader.getProperties(MESSAGES_FILE_PATH);
+        Map<String, String> messageMap = new HashMap<>();
+        messages.stringPropertyNames().forEach(key -> messageMap.put(key, messages.getProperty(key)));
+        Map<String, ErrorDto> errorDtoMap = new HashMap<>();
+        for (String key : errorCodes.stringPropertyNames()) {
+            try {
+                int code = Integer.parseInt(errorCodes.getProperty(key).trim());
+                errorDtoMap.put(key, new ErrorDto(code, messageMap.get(key), null));
+            } catch (NumberFormatException e) {
+                log.error("Invalid error code {} for {}", errorCodes.getProperty(key), key);
+            }
+        }
+        return new Snapshot(Map.copyOf(errorDtoMap), Map.copyOf(messageMap));
+    }
+
+    private record Snapshot(Map<String, ErrorDto> errorDtos, Map<String, String> messages) {
+    }
+}
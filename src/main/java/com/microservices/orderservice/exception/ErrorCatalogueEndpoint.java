@@ -0,0 +1,36 @@
+package com.microservices.orderservice.exception;
+
+import com.microservices.orderservice.dto.ErrorDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint exposing the error catalogue at {@code /actuator/errorcatalogue}: a GET lists the error codes
+ * and messages. Reloading the catalogue is only offered over JMX, by {@link ErrorCatalogueJmxExtension}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "errorcatalogue")
+public class ErrorCatalogueEndpoint {
+
+    private final ErrorCatalogue errorCatalogue;
+
+    /**
+     * Lists the errors of the catalogue.
+     *
+     * @return The error code and message of every error, sorted by error key.
+     */
+    @ReadOperation
+    public Map<String, ErrorDto> errors() {
+        return new TreeMap<>(errorCatalogue.getErrorDtos());
+    }
+}
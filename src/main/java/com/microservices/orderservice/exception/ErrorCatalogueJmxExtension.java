@@ -0,0 +1,35 @@
+package com.microservices.orderservice.exception;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.EndpointJmxExtension;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * JMX extension of the {@link ErrorCatalogueEndpoint} adding the reload of the catalogue, which is not exposed over
+ * HTTP as the actuator endpoints are not secured. JMX is off by default and is turned on with
+ * {@code spring.jmx.enabled}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+@RequiredArgsConstructor
+@EndpointJmxExtension(endpoint = ErrorCatalogueEndpoint.class)
+public class ErrorCatalogueJmxExtension {
+
+    private final ErrorCatalogue errorCatalogue;
+
+    /**
+     * Reloads the catalogue from the properties files.
+     *
+     * @return The number of errors in the reloaded catalogue.
+     */
+    @WriteOperation
+    public Map<String, Integer> reload() {
+        return Map.of("errors", errorCatalogue.reload());
+    }
+}
@@ -5,6 +5,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Feign client interface for communicating with the PRODUCT-SERVICE.
@@ -24,5 +28,14 @@ public interface ProductServiceProxy {
      */
     @GetMapping("products/{productId}")
     ResponseEntity<ProductDto> getProductById(@PathVariable Long productId);
-}
 
+    /**
+     * Retrieves the information of several products in a single request from the PRODUCT-SERVICE.
+     * Products that do not exist are left out of the response.
+     *
+     * @param productIds The unique identifiers of the products.
+     * @return ResponseEntity containing the list of ProductDto objects if the request is successful.
+     */
+    @GetMapping("products/batch")
+    ResponseEntity<List<ProductDto>> getProductsByIds(@RequestParam("productIds") Collection<Long> productIds);
+}
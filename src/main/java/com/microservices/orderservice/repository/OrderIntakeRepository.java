@@ -0,0 +1,68 @@
+package com.microservices.orderservice.repository;
+
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import com.microservices.orderservice.entity.OrderIntake;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing OrderIntake entities in the database.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Repository
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, Long> {
+
+    /**
+     * Counts the intakes in the given states.
+     *
+     * @param statuses The states of the intakes to count.
+     * @return The number of intakes.
+     */
+    long countByStatusIn(Collection<OrderIntakeStatus> statuses);
+
+    /**
+     * Retrieves and locks the oldest pending intakes due for an attempt, together with the intakes whose worker
+     * claimed them before the given time without completing them. Intakes already locked by another worker are
+     * skipped where the database supports it. Must be called within a transaction.
+     *
+     * @param claimedBefore The time before which a claim is considered abandoned.
+     * @param now           The current time; pending intakes whose next attempt is later are skipped.
+     * @param limit         The maximum number of intakes to retrieve.
+     * @return List of OrderIntake entities, ordered by ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED.
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select i from OrderIntake i
+            where (i.status = com.microservices.orderservice.dto.OrderIntakeStatus.PENDING
+                    and (i.nextAttemptDate is null or i.nextAttemptDate <= :now))
+                or (i.status = com.microservices.orderservice.dto.OrderIntakeStatus.PROCESSING
+                    and i.claimedDate < :claimedBefore)
+            order by i.intakeId""")
+    List<OrderIntake> findClaimable(LocalDateTime claimedBefore, LocalDateTime now, Limit limit);
+
+    /**
+     * Deletes the intakes whose creation completed before the given time.
+     *
+     * @param completedBefore The time before which completed intakes are deleted.
+     * @return The number of deleted intakes.
+     */
+    @Modifying
+    @Query("delete from OrderIntake i where i.completedDate < :completedBefore")
+    int deleteCompletedBefore(LocalDateTime completedBefore);
+}
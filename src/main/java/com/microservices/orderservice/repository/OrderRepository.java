@@ -1,9 +1,24 @@
 package com.microservices.orderservice.repository;
 
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
 import com.microservices.orderservice.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for managing Order entities in the database.
  *
@@ -13,5 +28,112 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
-}
 
+    /**
+     * Retrieves an order together with its order lines in a single query.
+     *
+     * @param orderId The ID of the order to retrieve.
+     * @return Optional containing the Order entity if it exists.
+     */
+    @EntityGraph(attributePaths = "orderLineList")
+    Optional<Order> findWithOrderLinesByOrderId(Long orderId);
+
+    /**
+     * Retrieves the IDs of the orders following the given order ID, ordered by ID.
+     *
+     * @param orderId The ID after which the order IDs are retrieved.
+     * @param limit   The maximum number of order IDs to retrieve.
+     * @return List of order IDs following the given ID.
+     */
+    @Query("select o.orderId from Order o where o.orderId > :orderId order by o.orderId")
+    List<Long> findOrderIdsAfter(long orderId, Limit limit);
+
+    /**
+     * Retrieves the orders with the given IDs together with their order lines in a single query, ordered by ID.
+     *
+     * @param orderIds The IDs of the orders to retrieve.
+     * @return List of Order entities with the given IDs.
+     */
+    @EntityGraph(attributePaths = "orderLineList")
+    List<Order> findWithOrderLinesByOrderIdInOrderByOrderIdAsc(Collection<Long> orderIds);
+
+    /**
+     * Streams all the orders together with their order lines ordered by their ID,
+     * fetching the rows from the database in chunks.
+     * The stream must be consumed and closed within a transaction.
+     *
+     * @return Stream of all Order entities.
+     */
+    @Query("select o from Order o left join fetch o.orderLineList order by o.orderId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Order> streamAllOrders();
+
+    /**
+     * Deletes the order lines of an order with a single statement, without loading them.
+     * Must be called within a transaction.
+     *
+     * @param orderId The ID of the order whose order lines are deleted.
+     * @return The number of order lines deleted.
+     */
+    @Modifying
+    @Query("delete from OrderLine ol where ol.order.orderId = :orderId")
+    int deleteOrderLinesByOrderId(long orderId);
+
+    /**
+     * Deletes an order with a single statement, without loading it; its order lines must be deleted first.
+     * Must be called within a transaction.
+     *
+     * @param orderId The ID of the order to delete.
+     * @return The number of orders deleted.
+     */
+    @Modifying
+    @Query("delete from Order o where o.orderId = :orderId")
+    int deleteOrderByOrderId(long orderId);
+
+    /**
+     * Flags an order as deleted with a single statement, keeping its rows in the database.
+     * Must be called within a transaction.
+     *
+     * @param orderId      The ID of the order to flag.
+     * @param modifiedDate The date and time recorded as the last modification of the order.
+     * @return The number of orders flagged.
+     */
+    @Modifying
+    @Query("update Order o set o.deleted = true, o.modifiedDate = :modifiedDate where o.orderId = :orderId")
+    int softDeleteByOrderId(long orderId, LocalDateTime modifiedDate);
+
+    /**
+     * Counts the orders created in a period and sums their total prices per day, in a single aggregate query
+     * served by the index on the creation date. Days without orders are omitted.
+     *
+     * @param from The start of the period, inclusive.
+     * @param to   The end of the period, exclusive.
+     * @return List of the order statistics of every day with orders, ordered by day.
+     */
+    @Query("""
+            select new com.microservices.orderservice.dto.DailyOrderStatsDto(
+                cast(o.createdDate as LocalDate), count(o), coalesce(sum(o.totalPrice), 0))
+            from Order o
+            where o.createdDate >= :from and o.createdDate < :to
+            group by cast(o.createdDate as LocalDate)
+            order by cast(o.createdDate as LocalDate)""")
+    List<DailyOrderStatsDto> findDailyOrderStats(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Sums the ordered quantity and revenue of every product over the orders created in a period,
+     * in a single aggregate query, and returns the products ordered most.
+     *
+     * @param from  The start of the period, inclusive.
+     * @param to    The end of the period, exclusive.
+     * @param limit The maximum number of products to retrieve.
+     * @return List of the sales of the products ordered most, by descending quantity.
+     */
+    @Query("""
+            select new com.microservices.orderservice.dto.ProductSalesDto(
+                ol.productId, max(ol.productName), sum(ol.quantity), coalesce(sum(ol.unitPrice * ol.quantity), 0))
+            from OrderLine ol join ol.order o
+            where o.createdDate >= :from and o.createdDate < :to
+            group by ol.productId
+            order by sum(ol.quantity) desc, ol.productId""")
+    List<ProductSalesDto> findTopProductSales(LocalDateTime from, LocalDateTime to, Limit limit);
+}
@@ -0,0 +1,38 @@
+package com.microservices.orderservice.repository;
+
+import com.microservices.orderservice.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing OutboxEvent entities in the database.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Retrieves and locks the oldest unpublished events. Events already locked by another instance are skipped
+     * where the database supports it, so that concurrent relays publish different events.
+     * Must be called within a transaction.
+     *
+     * @param limit The maximum number of events to retrieve.
+     * @return List of OutboxEvent entities, ordered by ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED.
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e order by e.eventId")
+    List<OutboxEvent> findOldestForPublishing(Limit limit);
+}
@@ -0,0 +1,48 @@
+package com.microservices.orderservice.service;
+
+import java.util.Optional;
+
+/**
+ * Limits the number of concurrent executions of an operation, adapting the limit to their observed outcome.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Acquires a permit for one execution, without waiting.
+     *
+     * @return The permit, or empty if the limit is reached and the execution must be rejected.
+     */
+    Optional<Permit> tryAcquire();
+
+    /**
+     * Returns the current limit.
+     *
+     * @return The number of executions permitted concurrently.
+     */
+    int getLimit();
+
+    /**
+     * A permit for one execution, released by reporting the outcome of the execution exactly once.
+     */
+    interface Permit {
+
+        /**
+         * Releases the permit of an execution that succeeded, sampling its latency.
+         */
+        void onSuccess();
+
+        /**
+         * Releases the permit of an execution that timed out or failed because a dependency was overloaded.
+         */
+        void onDropped();
+
+        /**
+         * Releases the permit of an execution whose outcome says nothing about the load, such as invalid input.
+         */
+        void onIgnore();
+    }
+}
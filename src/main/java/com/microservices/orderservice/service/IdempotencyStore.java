@@ -0,0 +1,31 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for deduplicating order creations submitted with the same idempotency key.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Returns the result of the order creation submitted under the given key, starting the creation when the key
+     * is new. A creation that fails is forgotten, so that the key can be submitted again.
+     *
+     * @param idempotencyKey The key chosen by the client for this order.
+     * @param orderDto       The order to be created.
+     * @param creation       Starts the creation of the order.
+     * @return Future completed with the created OrderDto; cancelling it does not cancel the creation.
+     * @throws OrderServiceException if the key was already submitted with a different order.
+     */
+    CompletableFuture<OrderDto> submit(String idempotencyKey,
+                                       OrderDto orderDto,
+                                       Supplier<CompletableFuture<OrderDto>> creation);
+}
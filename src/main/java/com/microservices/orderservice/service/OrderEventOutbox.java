@@ -0,0 +1,28 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.OrderDto;
+
+/**
+ * Service interface for recording order events in the outbox, within the transaction that changes the order,
+ * so that an event is published if and only if its change is committed.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface OrderEventOutbox {
+
+    /**
+     * Records that an order was created.
+     *
+     * @param orderDto The created order, with its ID.
+     */
+    void recordOrderCreated(OrderDto orderDto);
+
+    /**
+     * Records that an order was deleted.
+     *
+     * @param orderDto The order as it was before its deletion.
+     */
+    void recordOrderDeleted(OrderDto orderDto);
+}
@@ -0,0 +1,24 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.OrderEventDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the destination the outbox relay publishes order events to, such as a message broker.
+ * Events are delivered at least once and in the order they were recorded; a failed batch is delivered again.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface OrderEventSink {
+
+    /**
+     * Publishes a batch of events, returning only once all of them are durably accepted.
+     *
+     * @param orderEventDtoList The events to publish, ordered by ID.
+     * @throws RuntimeException if the events could not all be published.
+     */
+    void publish(List<OrderEventDto> orderEventDtoList);
+}
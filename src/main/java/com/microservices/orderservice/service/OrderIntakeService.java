@@ -0,0 +1,30 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+
+/**
+ * Service interface for the orders accepted for asynchronous creation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface OrderIntakeService {
+
+    /**
+     * Accepts an order for creation by the intake workers.
+     *
+     * @param orderDto The OrderDto object representing the order to be created.
+     * @return The OrderIntakeDto of the accepted order, whose ID is the handle to poll.
+     */
+    OrderIntakeDto submitOrder(OrderDto orderDto);
+
+    /**
+     * Retrieves the progress of an accepted order.
+     *
+     * @param intakeId The handle returned when the order was accepted.
+     * @return The OrderIntakeDto with the specified ID.
+     */
+    OrderIntakeDto getOrderIntake(Long intakeId);
+}
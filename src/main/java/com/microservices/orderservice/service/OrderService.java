@@ -1,8 +1,11 @@
 package com.microservices.orderservice.service;
 
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderPageDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing orders.
@@ -14,11 +17,20 @@ import java.util.List;
 public interface OrderService {
 
     /**
-     * Retrieves a list of all orders.
+     * Retrieves a page of orders following the given order ID, ordered by their ID.
      *
-     * @return List of OrderDto objects representing all orders.
+     * @param afterOrderId The ID after which the page starts, or null for the first page.
+     * @param size         The requested number of orders, or null for the default page size.
+     * @return The OrderPageDto containing the orders and the cursor of the next page.
      */
-    List<OrderDto> getAllOrders();
+    OrderPageDto getAllOrders(Long afterOrderId, Integer size);
+
+    /**
+     * Streams all orders, ordered by their ID, to the given consumer one at a time.
+     *
+     * @param orderDtoConsumer The consumer receiving every OrderDto.
+     */
+    void streamAllOrders(Consumer<OrderDto> orderDtoConsumer);
 
     /**
      * Creates a new order.
@@ -28,6 +40,14 @@ public interface OrderService {
      */
     OrderDto createOrder(OrderDto orderDto);
 
+    /**
+     * Creates a batch of orders, reporting the outcome of every order separately.
+     *
+     * @param orderDtoList The OrderDto objects representing the orders to be created.
+     * @return The OrderBatchResultDto with the result of every order of the batch.
+     */
+    OrderBatchResultDto createOrders(List<OrderDto> orderDtoList);
+
     /**
      * Retrieves an order by its ID.
      *
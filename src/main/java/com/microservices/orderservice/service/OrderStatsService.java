@@ -0,0 +1,36 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for the statistics of the orders, computed by the database.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface OrderStatsService {
+
+    /**
+     * Retrieves the number of orders and their revenue for every day of a period with orders.
+     *
+     * @param from The first day of the period.
+     * @param to   The last day of the period.
+     * @return List of DailyOrderStatsDto objects, ordered by day.
+     */
+    List<DailyOrderStatsDto> getDailyOrderStats(LocalDate from, LocalDate to);
+
+    /**
+     * Retrieves the products ordered most over a period.
+     *
+     * @param from  The first day of the period.
+     * @param to    The last day of the period.
+     * @param limit The requested number of products, or null for the default number.
+     * @return List of ProductSalesDto objects, by descending quantity.
+     */
+    List<ProductSalesDto> getTopProducts(LocalDate from, LocalDate to, Integer limit);
+}
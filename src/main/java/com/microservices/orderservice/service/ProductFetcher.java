@@ -0,0 +1,23 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.ProductDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for asynchronously fetching a single product from the PRODUCT-SERVICE.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface ProductFetcher {
+
+    /**
+     * Fetches the product with the given ID.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    CompletableFuture<ProductDto> fetchProduct(Long productId);
+}
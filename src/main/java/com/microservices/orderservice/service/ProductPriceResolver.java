@@ -0,0 +1,43 @@
+package com.microservices.orderservice.service;
+
+import com.microservices.orderservice.dto.ProductDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for resolving the products referenced by the lines of an order.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface ProductPriceResolver {
+
+    /**
+     * Resolves the products with the given IDs, fetching every distinct ID only once.
+     *
+     * @param productIds The IDs of the products to resolve, possibly containing duplicates.
+     * @return Map of product ID to ProductDto for every product the PRODUCT-SERVICE returned.
+     */
+    Map<Long, ProductDto> resolveProducts(Collection<Long> productIds);
+
+    /**
+     * Looks up the products with the given IDs, fetching every distinct ID only once and keeping the outcome
+     * of every lookup, so that a product that is missing or whose lookup failed only affects the orders
+     * referencing it.
+     *
+     * @param productIds The IDs of the products to look up, possibly containing duplicates.
+     * @return Map of product ID to the ProductLookup of every distinct ID.
+     */
+    Map<Long, ProductLookup> lookupProducts(Collection<Long> productIds);
+
+    /**
+     * The outcome of the lookup of a single product.
+     *
+     * @param productDto The product, or null if the PRODUCT-SERVICE does not know it or its lookup failed.
+     * @param failure    The failure of the lookup, or null if it succeeded.
+     */
+    record ProductLookup(ProductDto productDto, RuntimeException failure) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ConcurrencyLimitProperties;
+import com.microservices.orderservice.service.ConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of the {@link ConcurrencyLimiter} interface with an additive increase, multiplicative decrease
+ * (AIMD) limit. Every execution that completed within the latency threshold while the limit was at least half
+ * used raises the limit by one; every execution that was slower or dropped multiplies it by the backoff ratio.
+ * The limit therefore settles just below the concurrency at which the execution, and the PRODUCT-SERVICE behind it,
+ * start to slow down, and executions beyond it are rejected at once instead of queuing.
+ * The limit, the executions in flight and the rejections are published as the
+ * {@code order.create.concurrency.*} metrics.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class AimdConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private volatile double limit;
+
+    /**
+     * Constructs a new AimdConcurrencyLimiter.
+     *
+     * @param properties    The concurrency limit configuration properties.
+     * @param nanoTime      The time source measuring the latency of the executions, in nanoseconds.
+     * @param meterRegistry The registry the limit metrics are published to.
+     */
+    public AimdConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                  LongSupplier nanoTime,
+                                  MeterRegistry meterRegistry) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.nanoTime = nanoTime;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+        Gauge.builder("order.create.concurrency.limit", this, AimdConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("order.create.concurrency.inflight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.create.concurrency.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Acquires a permit for one execution, unless as many executions as the limit are in flight.
+     *
+     * @return The permit, or empty if the execution must be rejected.
+     */
+    @Override
+    public Optional<Permit> tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejectedCounter.increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new AimdPermit(nanoTime.getAsLong(), current + 1));
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return The number of executions permitted concurrently.
+     */
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    private synchronized void sample(long latencyNanos, int inFlightAtStart, boolean dropped) {
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            log.debug("Order creation concurrency limit backed off to {}", getLimit());
+        } else if (inFlightAtStart * 2 >= limit) {
+            // Only a limit in use is raised, so that a quiet period does not leave an untested, inflated limit.
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * Permit remembering when its execution started and how many executions were in flight then.
+     */
+    private final class AimdPermit implements Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private AimdPermit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void onSuccess() {
+            if (release()) {
+                sample(nanoTime.getAsLong() - startNanos, inFlightAtStart, false);
+            }
+        }
+
+        @Override
+        public void onDropped() {
+            if (release()) {
+                sample(nanoTime.getAsLong() - startNanos, inFlightAtStart, true);
+            }
+        }
+
+        @Override
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
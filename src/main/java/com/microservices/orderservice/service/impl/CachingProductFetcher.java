@@ -0,0 +1,164 @@
+package com.microservices.orderservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.service.ProductFetcher;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of the {@link ProductFetcher} interface that serves products from a size-bounded in-process cache
+ * in front of another ProductFetcher.
+ * Entries older than the refresh interval are still served while they are reloaded in the background,
+ * entries older than the time to live are reloaded before being served, and products the PRODUCT-SERVICE
+ * does not know are remembered for a shorter negative time to live.
+ * A load shared by several callers is cancelled, and not cached, once every caller waiting for it cancelled,
+ * so that the fetcher behind the cache stops retrying a lookup nobody waits for.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class CachingProductFetcher implements ProductFetcher {
+
+    private final AsyncLoadingCache<Long, Optional<ProductDto>> cache;
+    private final Map<CompletableFuture<Optional<ProductDto>>, Load> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new CachingProductFetcher.
+     *
+     * @param delegate        The fetcher used on cache misses and refreshes.
+     * @param maximumSize     The maximum number of products kept in the cache.
+     * @param timeToLive      The age after which a product is no longer served from the cache.
+     * @param refreshAfter    The age after which a product is served stale and reloaded in the background.
+     * @param negativeTtl     The age after which a missing product is looked up again.
+     * @param refreshExecutor The executor on which background refreshes are run.
+     * @param ticker          The time source of the cache.
+     */
+    public CachingProductFetcher(ProductFetcher delegate,
+                                 long maximumSize,
+                                 Duration timeToLive,
+                                 Duration refreshAfter,
+                                 Duration negativeTtl,
+                                 Executor refreshExecutor,
+                                 Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ProductExpiry(timeToLive.toNanos(), negativeTtl.toNanos()))
+                .refreshAfterWrite(refreshAfter)
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync((productId, executor) -> load(delegate, productId));
+    }
+
+    /**
+     * Fetches the product with the given ID from the cache, loading it on a miss.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    @Override
+    public CompletableFuture<ProductDto> fetchProduct(Long productId) {
+        while (true) {
+            CompletableFuture<Optional<ProductDto>> entry = cache.get(productId);
+            CompletableFuture<ProductDto> result = entry.thenApply(productDto -> productDto.orElse(null));
+            Load load = loads.get(entry);
+            if (load == null) {
+                return result;
+            }
+            if (load.join()) {
+                result.whenComplete((productDto, throwable) -> {
+                    if (result.isCancelled()) {
+                        load.leave();
+                    }
+                });
+                return result;
+            }
+            // Every other caller cancelled the load before this one joined it; start a new one.
+            cache.asMap().remove(productId, entry);
+        }
+    }
+
+    /**
+     * Returns the underlying cache, used to bind its statistics to the meter registry.
+     *
+     * @return The product cache.
+     */
+    public AsyncLoadingCache<Long, Optional<ProductDto>> getCache() {
+        return cache;
+    }
+
+    private CompletableFuture<Optional<ProductDto>> load(ProductFetcher delegate, Long productId) {
+        CompletableFuture<ProductDto> lookup = delegate.fetchProduct(productId);
+        CompletableFuture<Optional<ProductDto>> entry = lookup.thenApply(Optional::ofNullable);
+        if (!entry.isDone()) {
+            loads.put(entry, new Load(lookup));
+            entry.whenComplete((productDto, throwable) -> loads.remove(entry));
+        }
+        return entry;
+    }
+
+    /**
+     * A lookup in progress, cancelled once the last of the callers waiting for it cancelled.
+     */
+    private static final class Load {
+
+        private final CompletableFuture<ProductDto> lookup;
+        private int waiters;
+        private boolean cancelled;
+
+        private Load(CompletableFuture<ProductDto> lookup) {
+            this.lookup = lookup;
+        }
+
+        private synchronized boolean join() {
+            if (cancelled) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        private void leave() {
+            synchronized (this) {
+                if (--waiters > 0) {
+                    return;
+                }
+                cancelled = true;
+            }
+            lookup.cancel(true);
+        }
+    }
+
+    /**
+     * Expiry policy applying the negative time to live to missing products and the regular one otherwise.
+     */
+    private record ProductExpiry(long timeToLiveNanos, long negativeTtlNanos) implements Expiry<Long, Optional<ProductDto>> {
+
+        @Override
+        public long expireAfterCreate(Long productId, Optional<ProductDto> productDto, long currentTime) {
+            return productDto.isPresent() ? timeToLiveNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long productId, Optional<ProductDto> productDto,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(productId, productDto, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long productId, Optional<ProductDto> productDto,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.microservices.orderservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.IdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.IDEMPOTENCY_KEY_REUSED;
+
+/**
+ * Implementation of the {@link IdempotencyStore} interface that keeps the submitted orders and their results
+ * in a size-bounded in-process cache for a retention period.
+ * A duplicate submitted while the original creation is still running waits for it instead of starting another.
+ * Submissions are compared by the products and quantities of their order lines, which is all the creation uses,
+ * captured before the creation starts.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class CaffeineIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Submission> cache;
+
+    /**
+     * Constructs a new CaffeineIdempotencyStore.
+     *
+     * @param maximumSize The maximum number of keys remembered.
+     * @param retention   The time a key is remembered after it is first submitted.
+     * @param ticker      The time source of the cache.
+     */
+    public CaffeineIdempotencyStore(long maximumSize, Duration retention, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the result of the order creation submitted under the given key, starting the creation when the key
+     * is new or its previous creation failed.
+     *
+     * @param idempotencyKey The key chosen by the client for this order.
+     * @param orderDto       The order to be created.
+     * @param creation       Starts the creation of the order.
+     * @return Future completed with the created OrderDto; cancelling it does not cancel the creation.
+     * @throws OrderServiceException if the key was already submitted with a different order.
+     */
+    @Override
+    public CompletableFuture<OrderDto> submit(String idempotencyKey,
+                                              OrderDto orderDto,
+                                              Supplier<CompletableFuture<OrderDto>> creation) {
+        Submission submission = new Submission(requestedLines(orderDto), new CompletableFuture<>());
+        Submission existingSubmission = cache.get(idempotencyKey, key -> submission);
+        if (existingSubmission != submission) {
+            if (!existingSubmission.requestedLines().equals(submission.requestedLines())) {
+                throw new OrderServiceException(IDEMPOTENCY_KEY_REUSED, HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+            log.info("Replaying order creation for idempotency key {}", idempotencyKey);
+            return existingSubmission.result().copy();
+        }
+        try {
+            creation.get().whenComplete((createdOrderDto, e) -> {
+                if (e != null) {
+                    forget(idempotencyKey, submission, e);
+                } else {
+                    submission.result().complete(createdOrderDto);
+                }
+            });
+        } catch (RuntimeException e) {
+            forget(idempotencyKey, submission, e);
+        }
+        return submission.result().copy();
+    }
+
+    /**
+     * Returns the underlying cache, used to bind its statistics to the meter registry.
+     *
+     * @return The idempotency cache.
+     */
+    public Cache<String, Submission> getCache() {
+        return cache;
+    }
+
+    private static List<RequestedLine> requestedLines(OrderDto orderDto) {
+        return orderDto.getOrderLineDtoList().stream()
+                .map(orderLineDto -> new RequestedLine(orderLineDto.getProductId(), orderLineDto.getQuantity()))
+                .toList();
+    }
+
+    private void forget(String idempotencyKey, Submission submission, Throwable throwable) {
+        // Removed before completing, so that duplicates woken by the failure submit the key afresh.
+        cache.asMap().remove(idempotencyKey, submission);
+        submission.result().completeExceptionally(throwable);
+    }
+
+    /**
+     * An order submitted under an idempotency key and the result of its creation.
+     *
+     * @param requestedLines The order lines of the submitted order.
+     * @param result         Future completed with the created order.
+     */
+    public record Submission(List<RequestedLine> requestedLines, CompletableFuture<OrderDto> result) {
+    }
+
+    /**
+     * The product and quantity of a submitted order line.
+     *
+     * @param productId The unique identifier of the product.
+     * @param quantity  The quantity of the product.
+     */
+    public record RequestedLine(Long productId, Integer quantity) {
+    }
+}
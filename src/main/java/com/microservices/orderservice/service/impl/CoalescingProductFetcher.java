@@ -0,0 +1,139 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.microservices.orderservice.service.ProductFetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the {@link ProductFetcher} interface that gathers the single-product lookups of all
+ * in-flight orders within a short window and resolves them with one batched PRODUCT-SERVICE call.
+ * A batch is dispatched when its window elapses or when it reaches the maximum batch size, whichever comes first.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class CoalescingProductFetcher implements ProductFetcher, DisposableBean {
+
+    private final ProductServiceProxy productServiceProxy;
+    private final Executor productLookupExecutor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService windowScheduler;
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<ProductDto>> pending = new HashMap<>();
+    private long generation;
+
+    /**
+     * Constructs a new CoalescingProductFetcher.
+     *
+     * @param productServiceProxy   The Feign client of the PRODUCT-SERVICE.
+     * @param productLookupExecutor The bounded executor on which batched calls are issued.
+     * @param window                The time a batch stays open for further lookups.
+     * @param maxBatchSize          The number of distinct products that triggers an early dispatch.
+     */
+    public CoalescingProductFetcher(ProductServiceProxy productServiceProxy,
+                                    Executor productLookupExecutor,
+                                    Duration window,
+                                    int maxBatchSize) {
+        this.productServiceProxy = productServiceProxy;
+        this.productLookupExecutor = productLookupExecutor;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.windowScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("product-coalescer-"));
+    }
+
+    /**
+     * Fetches the product with the given ID as part of the currently open batch.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    @Override
+    public CompletableFuture<ProductDto> fetchProduct(Long productId) {
+        CompletableFuture<ProductDto> lookup;
+        Map<Long, CompletableFuture<ProductDto>> fullBatch = null;
+        synchronized (lock) {
+            lookup = pending.get(productId);
+            if (lookup == null) {
+                lookup = new CompletableFuture<>();
+                pending.put(productId, lookup);
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = takePending();
+                } else if (pending.size() == 1) {
+                    long batchGeneration = generation;
+                    windowScheduler.schedule(() -> flush(batchGeneration), windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        // Callers get their own view so that one order giving up cannot cancel the lookup for the others.
+        return lookup.copy();
+    }
+
+    /**
+     * Shuts down the window scheduler when the application context is closed.
+     */
+    @Override
+    public void destroy() {
+        windowScheduler.shutdownNow();
+    }
+
+    private void flush(long batchGeneration) {
+        Map<Long, CompletableFuture<ProductDto>> batch;
+        synchronized (lock) {
+            if (batchGeneration != generation || pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<Long, CompletableFuture<ProductDto>> takePending() {
+        Map<Long, CompletableFuture<ProductDto>> batch = pending;
+        pending = new HashMap<>();
+        generation++;
+        return batch;
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<ProductDto>> batch) {
+        try {
+            productLookupExecutor.execute(() -> load(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    private void load(Map<Long, CompletableFuture<ProductDto>> batch) {
+        try {
+            List<ProductDto> productDtoList = productServiceProxy.getProductsByIds(batch.keySet()).getBody();
+            log.debug("product-service called for a batch of {} products", batch.size());
+            Map<Long, ProductDto> products = new HashMap<>();
+            if (productDtoList != null) {
+                productDtoList.forEach(productDto -> products.put(productDto.getProductId(), productDto));
+            }
+            batch.forEach((productId, lookup) -> lookup.complete(products.get(productId)));
+        } catch (RuntimeException e) {
+            batch.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+}
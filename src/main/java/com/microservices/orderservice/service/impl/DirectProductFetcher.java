@@ -0,0 +1,48 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.microservices.orderservice.service.ProductFetcher;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of the {@link ProductFetcher} interface that issues one PRODUCT-SERVICE call per product
+ * on the bounded product lookup executor. A product the PRODUCT-SERVICE answers with 404 Not Found is resolved
+ * to null, so that it can be reported as unknown and negatively cached.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DirectProductFetcher implements ProductFetcher {
+
+    private final ProductServiceProxy productServiceProxy;
+    private final Executor productLookupExecutor;
+
+    /**
+     * Fetches the product with the given ID.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    @Override
+    public CompletableFuture<ProductDto> fetchProduct(Long productId) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ProductDto productDto = productServiceProxy.getProductById(productId).getBody();
+                log.debug("product-service called for product {}", productId);
+                return productDto;
+            } catch (FeignException.NotFound e) {
+                log.debug("product-service does not know product {}", productId);
+                return null;
+            }
+        }, productLookupExecutor);
+    }
+}
@@ -0,0 +1,56 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.OrderEventDto;
+import com.microservices.orderservice.service.OrderEventSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Implementation of the {@link OrderEventSink} interface that appends the events to a file as newline-delimited
+ * JSON, one event per line, for tests and for consumers tailing the file.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class FileOrderEventSink implements OrderEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new FileOrderEventSink.
+     *
+     * @param file         The file the events are appended to, created if it does not exist.
+     * @param objectMapper The mapper writing the events.
+     */
+    public FileOrderEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OrderEventDto> orderEventDtoList) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (OrderEventDto orderEventDto : orderEventDtoList) {
+                lines.append(objectMapper.writeValueAsString(orderEventDto)).append('\n');
+            }
+            // The batch is serialized before the file is opened, so that a serialization failure writes nothing.
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                                                         StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(lines.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
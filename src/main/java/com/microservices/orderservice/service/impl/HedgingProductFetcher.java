@@ -0,0 +1,209 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ProductLookupProperties;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.service.ProductFetcher;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowPercentileHistogram;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the {@link ProductFetcher} interface that calls the PRODUCT-SERVICE instances directly,
+ * in turn, and hedges slow calls. A call still running after the observed latency percentile of recent calls
+ * is repeated on the next instance, and the first answer wins; the slower call is left to finish.
+ * Hedges are earned by the calls, so that they never exceed the configured share of the calls and cannot
+ * multiply the load on a PRODUCT-SERVICE that is slow everywhere. A failed call only fails the lookup once
+ * its hedge, if any, failed as well.
+ * Call latencies are published as the {@code order.product.requests} timer, and sent, winning and skipped
+ * hedges as the {@code order.product.hedges} counter.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class HedgingProductFetcher implements ProductFetcher {
+
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final Executor productLookupExecutor;
+    private final String serviceId;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double budgetRatio;
+    private final int budgetBurst;
+    private final TimeWindowPercentileHistogram latencyHistogram;
+    private final AtomicInteger nextInstance = new AtomicInteger();
+    private final Timer requestTimer;
+    private final Counter sentCounter;
+    private final Counter wonCounter;
+    private final Counter skippedCounter;
+    private double budget;
+
+    /**
+     * Constructs a new HedgingProductFetcher.
+     *
+     * @param discoveryClient       The client discovering the PRODUCT-SERVICE instances.
+     * @param restClient            The client calling the instances.
+     * @param productLookupExecutor The bounded product lookup executor the calls run on.
+     * @param hedging               The product lookup hedging properties.
+     * @param meterRegistry         The registry the call and hedge metrics are published to.
+     */
+    public HedgingProductFetcher(DiscoveryClient discoveryClient,
+                                 RestClient restClient,
+                                 Executor productLookupExecutor,
+                                 ProductLookupProperties.Hedging hedging,
+                                 MeterRegistry meterRegistry) {
+        this.discoveryClient = discoveryClient;
+        this.restClient = restClient;
+        this.productLookupExecutor = productLookupExecutor;
+        this.serviceId = hedging.getServiceId();
+        this.minDelayNanos = hedging.getMinDelay().toNanos();
+        this.maxDelayNanos = hedging.getMaxDelay().toNanos();
+        this.budgetRatio = hedging.getBudgetRatio();
+        this.budgetBurst = hedging.getBudgetBurst();
+        this.budget = hedging.getBudgetBurst();
+        // Kept apart from the timer, so that the hedge delay does not depend on the registry the timer lands in.
+        this.latencyHistogram = new TimeWindowPercentileHistogram(Clock.SYSTEM, DistributionStatisticConfig.builder()
+                .percentiles(hedging.getPercentile())
+                .expiry(Duration.ofMinutes(1))
+                .bufferLength(3)
+                .build()
+                .merge(DistributionStatisticConfig.DEFAULT), false);
+        this.requestTimer = Timer.builder("order.product.requests")
+                .publishPercentiles(hedging.getPercentile())
+                .register(meterRegistry);
+        this.sentCounter = hedgeCounter("sent", meterRegistry);
+        this.wonCounter = hedgeCounter("won", meterRegistry);
+        this.skippedCounter = hedgeCounter("skipped", meterRegistry);
+    }
+
+    /**
+     * Fetches the product with the given ID from the next instance, hedging the call if it is slow.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    @Override
+    public CompletableFuture<ProductDto> fetchProduct(Long productId) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        if (instances.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("No instance of " + serviceId));
+        }
+        earnHedge();
+        int primary = Math.floorMod(nextInstance.getAndIncrement(), instances.size());
+        Lookup lookup = new Lookup(productId);
+        productLookupExecutor.execute(() -> call(instances.get(primary), lookup, false));
+        if (instances.size() > 1) {
+            ServiceInstance hedgeInstance = instances.get((primary + 1) % instances.size());
+            CompletableFuture.delayedExecutor(hedgeDelayNanos(), TimeUnit.NANOSECONDS, productLookupExecutor)
+                    .execute(() -> hedge(hedgeInstance, lookup));
+        }
+        return lookup.result;
+    }
+
+    private void hedge(ServiceInstance instance, Lookup lookup) {
+        // The primary call may have failed meanwhile, leaving no call running to join.
+        if (lookup.answered.get() || lookup.runningCalls.getAndIncrement() == 0) {
+            return;
+        }
+        if (!spendHedge()) {
+            skippedCounter.increment();
+            lookup.runningCalls.decrementAndGet();
+            return;
+        }
+        sentCounter.increment();
+        log.debug("Hedging product {} lookup on {}", lookup.productId, instance.getUri());
+        call(instance, lookup, true);
+    }
+
+    private void call(ServiceInstance instance, Lookup lookup, boolean hedge) {
+        long startTime = System.nanoTime();
+        ProductDto productDto;
+        try {
+            productDto = getProductById(instance, lookup.productId);
+        } catch (RuntimeException e) {
+            log.debug("product-service instance {} failed for product {}: {}", instance.getUri(), lookup.productId,
+                      e.getMessage());
+            if (lookup.runningCalls.decrementAndGet() == 0) {
+                lookup.result.completeExceptionally(e);
+            }
+            return;
+        }
+        long latencyNanos = System.nanoTime() - startTime;
+        latencyHistogram.recordLong(latencyNanos);
+        requestTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        if (!lookup.answered.compareAndSet(false, true)) {
+            return;
+        }
+        if (hedge) {
+            wonCounter.increment();
+        }
+        lookup.result.complete(productDto);
+    }
+
+    private ProductDto getProductById(ServiceInstance instance, Long productId) {
+        try {
+            return restClient.get()
+                    .uri(instance.getUri() + "/products/{productId}", productId)
+                    .retrieve()
+                    .body(ProductDto.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        ValueAtPercentile[] percentileValues = latencyHistogram.takeSnapshot(0, 0, 0).percentileValues();
+        double observedNanos = percentileValues.length > 0 ? percentileValues[0].value() : 0;
+        if (observedNanos <= 0) {
+            return maxDelayNanos;
+        }
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, (long) observedNanos));
+    }
+
+    private synchronized void earnHedge() {
+        budget = Math.min(budgetBurst, budget + budgetRatio);
+    }
+
+    private synchronized boolean spendHedge() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    private static Counter hedgeCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("order.product.hedges").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * The state of one product lookup, shared by its primary call and its hedge.
+     */
+    @RequiredArgsConstructor
+    private static final class Lookup {
+        private final Long productId;
+        private final CompletableFuture<ProductDto> result = new CompletableFuture<>();
+        private final AtomicInteger runningCalls = new AtomicInteger(1);
+        private final AtomicBoolean answered = new AtomicBoolean();
+    }
+}
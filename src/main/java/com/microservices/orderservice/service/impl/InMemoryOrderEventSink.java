@@ -0,0 +1,34 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.OrderEventDto;
+import com.microservices.orderservice.service.OrderEventSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the {@link OrderEventSink} interface that keeps the published events in memory,
+ * for tests and local runs. The events are never discarded.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class InMemoryOrderEventSink implements OrderEventSink {
+
+    private final List<OrderEventDto> publishedEvents = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OrderEventDto> orderEventDtoList) {
+        publishedEvents.addAll(orderEventDtoList);
+    }
+
+    /**
+     * Returns the events published so far, in the order they were published.
+     *
+     * @return A copy of the published events.
+     */
+    public synchronized List<OrderEventDto> getPublishedEvents() {
+        return List.copyOf(publishedEvents);
+    }
+}
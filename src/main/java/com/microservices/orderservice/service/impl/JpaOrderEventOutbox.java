@@ -0,0 +1,62 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderEventType;
+import com.microservices.orderservice.entity.OutboxEvent;
+import com.microservices.orderservice.repository.OutboxEventRepository;
+import com.microservices.orderservice.service.OrderEventOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of the {@link OrderEventOutbox} interface that inserts the events in the outbox table.
+ * It must join the transaction of the order change, so it refuses to run without one.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class JpaOrderEventOutbox implements OrderEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records that an order was created.
+     *
+     * @param orderDto The created order, with its ID.
+     */
+    @Override
+    public void recordOrderCreated(OrderDto orderDto) {
+        record(OrderEventType.ORDER_CREATED, orderDto);
+    }
+
+    /**
+     * Records that an order was deleted.
+     *
+     * @param orderDto The order as it was before its deletion.
+     */
+    @Override
+    public void recordOrderDeleted(OrderDto orderDto) {
+        record(OrderEventType.ORDER_DELETED, orderDto);
+    }
+
+    private void record(OrderEventType eventType, OrderDto orderDto) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(null, eventType, orderDto.getOrderId(), LocalDateTime.now(),
+                                                       objectMapper.writeValueAsString(orderDto)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
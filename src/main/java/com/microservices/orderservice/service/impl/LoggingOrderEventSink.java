@@ -0,0 +1,27 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.OrderEventDto;
+import com.microservices.orderservice.service.OrderEventSink;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Implementation of the {@link OrderEventSink} interface that only logs the events, used until a message broker
+ * adapter is configured.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class LoggingOrderEventSink implements OrderEventSink {
+
+    @Override
+    public void publish(List<OrderEventDto> orderEventDtoList) {
+        for (OrderEventDto orderEventDto : orderEventDtoList) {
+            log.info("Order event {} {} for order {}", orderEventDto.getEventId(), orderEventDto.getEventType(),
+                     orderEventDto.getOrderId());
+        }
+    }
+}
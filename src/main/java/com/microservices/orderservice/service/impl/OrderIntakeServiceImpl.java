@@ -0,0 +1,112 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.config.OrderIntakeProperties;
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import com.microservices.orderservice.entity.OrderIntake;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.repository.OrderIntakeRepository;
+import com.microservices.orderservice.service.OrderIntakeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.GET_ORDER_INTAKE_NOT_FOUND;
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_INTAKE_FULL;
+
+/**
+ * Implementation of the {@link OrderIntakeService} interface storing the accepted orders in the database,
+ * where the {@link OrderIntakeWorker} picks them up.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderIntakeServiceImpl implements OrderIntakeService {
+
+    private static final List<OrderIntakeStatus> QUEUED_STATUSES = List.of(OrderIntakeStatus.PENDING,
+                                                                           OrderIntakeStatus.PROCESSING);
+    private static final TypeReference<List<ErrorDto>> ERROR_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderIntakeProperties orderIntakeProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Accepts an order for creation by the intake workers, unless the intake is full.
+     * The capacity is checked before the insert, so concurrent submissions may exceed it slightly.
+     *
+     * @param orderDto The OrderDto object representing the order to be created.
+     * @return The OrderIntakeDto of the accepted order, whose ID is the handle to poll.
+     * @throws OrderServiceException if the intake is full.
+     */
+    @Transactional
+    @Override
+    public OrderIntakeDto submitOrder(OrderDto orderDto) {
+        log.debug("Entering in OrderIntakeServiceImpl : submitOrder()");
+        if (orderIntakeRepository.countByStatusIn(QUEUED_STATUSES) >= orderIntakeProperties.getCapacity()) {
+            log.error(ORDER_INTAKE_FULL);
+            throw new OrderServiceException(ORDER_INTAKE_FULL, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        OrderIntake orderIntake = new OrderIntake();
+        orderIntake.setStatus(OrderIntakeStatus.PENDING);
+        orderIntake.setPayload(write(orderDto));
+        orderIntake.setSubmittedDate(LocalDateTime.now());
+        OrderIntake savedOrderIntake = orderIntakeRepository.save(orderIntake);
+        log.info("Accepted order intake {} with {} order lines", savedOrderIntake.getIntakeId(),
+                 orderDto.getOrderLineDtoList().size());
+        log.debug("Exiting from OrderIntakeServiceImpl : submitOrder()");
+        return toOrderIntakeDto(savedOrderIntake);
+    }
+
+    /**
+     * Retrieves the progress of an accepted order.
+     *
+     * @param intakeId The handle returned when the order was accepted.
+     * @return The OrderIntakeDto with the specified ID.
+     * @throws OrderServiceException if the intake is not found, or its retention has passed.
+     */
+    @Override
+    public OrderIntakeDto getOrderIntake(Long intakeId) {
+        log.debug("Entering in OrderIntakeServiceImpl : getOrderIntake()");
+        OrderIntake orderIntake = orderIntakeRepository.findById(intakeId)
+                .orElseThrow(() -> new OrderServiceException(GET_ORDER_INTAKE_NOT_FOUND, HttpStatus.NOT_FOUND));
+        log.debug("Exiting from OrderIntakeServiceImpl : getOrderIntake()");
+        return toOrderIntakeDto(orderIntake);
+    }
+
+    private OrderIntakeDto toOrderIntakeDto(OrderIntake orderIntake) {
+        try {
+            List<ErrorDto> errors = orderIntake.getErrors() != null ?
+                    objectMapper.readValue(orderIntake.getErrors(), ERROR_LIST_TYPE) :
+                    null;
+            return new OrderIntakeDto(orderIntake.getIntakeId(), orderIntake.getStatus(), orderIntake.getOrderId(),
+                                      errors, orderIntake.getSubmittedDate(), orderIntake.getCompletedDate());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(OrderDto orderDto) {
+        try {
+            return objectMapper.writeValueAsString(orderDto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.config.OrderIntakeProperties;
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import com.microservices.orderservice.entity.OrderIntake;
+import com.microservices.orderservice.exception.ErrorCatalogue;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.repository.OrderIntakeRepository;
+import com.microservices.orderservice.service.OrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.CREATE_ORDERS_PERSIST_FAILED;
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_INTAKE_ATTEMPTS_EXHAUSTED;
+
+/**
+ * Creates the orders accepted by the {@link OrderIntakeServiceImpl} in batches, oldest first, on a pool of workers.
+ * <p>
+ * A worker claims a batch in a short transaction, creates its orders with
+ * {@link OrderService#createOrders(List)}, so that the products of the whole batch are resolved with a single
+ * lookup and its orders are saved in JDBC batches, and records the outcome of every order in a second transaction.
+ * A batch whose creation fails as a whole, for instance because the PRODUCT-SERVICE is down, is released for
+ * another attempt after an exponentially growing backoff, and reported as failed once its orders ran out of
+ * attempts. A worker that dies holding a claim leaves its orders to be claimed again after the claim timeout,
+ * so an order created just before the death of its worker may be created twice; orders whose claim timed out
+ * once they ran out of attempts are reported as failed instead, so that a batch killing its workers is not
+ * claimed forever.
+ * Outcomes are counted by the {@code order.intake.orders} metric.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class OrderIntakeWorker {
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ErrorCatalogue errorCatalogue;
+    private final Executor executor;
+    private final OrderIntakeProperties properties;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final Counter createdCounter;
+    private final Counter invalidCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    /**
+     * Constructs a new OrderIntakeWorker.
+     *
+     * @param orderIntakeRepository The repository of the accepted orders.
+     * @param orderService          The service creating the orders.
+     * @param transactionTemplate   The template running every claim and outcome in its own transaction.
+     * @param objectMapper          The mapper reading the accepted orders and writing their errors.
+     * @param errorCatalogue        The catalogue of the errors reported for failed orders.
+     * @param executor              The executor the workers run on.
+     * @param properties            The order intake configuration properties.
+     * @param meterRegistry         The registry the outcome counts are published to.
+     */
+    public OrderIntakeWorker(OrderIntakeRepository orderIntakeRepository,
+                             OrderService orderService,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             ErrorCatalogue errorCatalogue,
+                             Executor executor,
+                             OrderIntakeProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.orderIntakeRepository = orderIntakeRepository;
+        this.orderService = orderService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.errorCatalogue = errorCatalogue;
+        this.executor = executor;
+        this.properties = properties;
+        this.createdCounter = outcomeCounter("created", meterRegistry);
+        this.invalidCounter = outcomeCounter("invalid", meterRegistry);
+        this.failedCounter = outcomeCounter("failed", meterRegistry);
+        this.retriedCounter = outcomeCounter("retried", meterRegistry);
+    }
+
+    /**
+     * Starts a worker for every idle slot of the pool; each worker creates batches until the intake is drained.
+     */
+    public void poll() {
+        int active;
+        while ((active = activeWorkers.get()) < properties.getWorkers()) {
+            if (!activeWorkers.compareAndSet(active, active + 1)) {
+                continue;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                activeWorkers.decrementAndGet();
+                log.warn("Order intake worker could not be started: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims the oldest batch of accepted orders, creates them and records their outcome.
+     *
+     * @return The number of orders claimed, or 0 if none was claimed or the batch was released for another
+     * attempt.
+     */
+    public int processBatch() {
+        List<OrderIntake> orderIntakeList = claim();
+        if (orderIntakeList.isEmpty()) {
+            return 0;
+        }
+        List<OrderBatchItemResultDto> results;
+        try {
+            results = orderService.createOrders(orderIntakeList.stream().map(this::readOrder).toList()).getResults();
+        } catch (RuntimeException e) {
+            log.warn("Creating a batch of {} accepted orders failed: {}", orderIntakeList.size(), e.getMessage());
+            release(orderIntakeList, e);
+            return 0;
+        }
+        LocalDateTime completedDate = LocalDateTime.now();
+        for (OrderBatchItemResultDto result : results) {
+            OrderIntake orderIntake = orderIntakeList.get(result.getIndex());
+            switch (result.getStatus()) {
+                case CREATED -> {
+                    orderIntake.setOrderId(result.getOrderDto().getOrderId());
+                    complete(orderIntake, OrderIntakeStatus.CREATED, null, completedDate);
+                    createdCounter.increment();
+                }
+                case INVALID -> {
+                    complete(orderIntake, OrderIntakeStatus.INVALID, result.getErrors(), completedDate);
+                    invalidCounter.increment();
+                }
+                case FAILED -> {
+                    complete(orderIntake, OrderIntakeStatus.FAILED, result.getErrors(), completedDate);
+                    failedCounter.increment();
+                }
+            }
+        }
+        save(orderIntakeList);
+        log.debug("Processed {} accepted orders", orderIntakeList.size());
+        return orderIntakeList.size();
+    }
+
+    /**
+     * Deletes the outcomes whose retention has passed.
+     */
+    public void purge() {
+        try {
+            int purgedCount = transactionTemplate.execute(status -> orderIntakeRepository.deleteCompletedBefore(
+                    LocalDateTime.now().minus(properties.getRetention())));
+            log.debug("Purged {} order intakes", purgedCount);
+        } catch (RuntimeException e) {
+            log.warn("Purging order intakes failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates batches until fewer orders than a full batch are claimed, or a batch is released, so that a failing
+     * PRODUCT-SERVICE is not called again until the next poll.
+     */
+    private void drain() {
+        try {
+            int processedCount;
+            do {
+                processedCount = processBatch();
+            } while (processedCount == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Processing accepted orders failed, retrying on the next poll: {}", e.getMessage());
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Claims a batch in its own transaction; the version of every claimed intake fences off a worker whose claim
+     * timed out, should it complete the intake later. Intakes whose claim timed out on their last attempt are
+     * failed in the same transaction and left out of the batch.
+     */
+    private List<OrderIntake> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime claimedDate = LocalDateTime.now();
+            List<OrderIntake> orderIntakeList = orderIntakeRepository.findClaimable(
+                    claimedDate.minus(properties.getClaimTimeout()),
+                    claimedDate,
+                    Limit.of(properties.getBatchSize()));
+            List<OrderIntake> claimedIntakeList = new ArrayList<>(orderIntakeList.size());
+            for (OrderIntake orderIntake : orderIntakeList) {
+                if (orderIntake.getStatus() == OrderIntakeStatus.PROCESSING
+                        && orderIntake.getAttempts() >= properties.getMaxAttempts()) {
+                    log.warn("Accepted order {} timed out on its last attempt", orderIntake.getIntakeId());
+                    complete(orderIntake, OrderIntakeStatus.FAILED,
+                             List.of(errorCatalogue.getErrorDto(ORDER_INTAKE_ATTEMPTS_EXHAUSTED)), claimedDate);
+                    failedCounter.increment();
+                    continue;
+                }
+                orderIntake.setStatus(OrderIntakeStatus.PROCESSING);
+                orderIntake.setClaimedDate(claimedDate);
+                orderIntake.setAttempts(orderIntake.getAttempts() + 1);
+                claimedIntakeList.add(orderIntake);
+            }
+            return claimedIntakeList;
+        });
+    }
+
+    private void release(List<OrderIntake> orderIntakeList, RuntimeException failure) {
+        LocalDateTime completedDate = LocalDateTime.now();
+        List<ErrorDto> errors = List.of(failure instanceof OrderServiceException orderServiceException ?
+                                                errorCatalogue.getErrorDto(orderServiceException.getMessage()) :
+                                                errorCatalogue.getErrorDto(CREATE_ORDERS_PERSIST_FAILED));
+        for (OrderIntake orderIntake : orderIntakeList) {
+            if (orderIntake.getAttempts() >= properties.getMaxAttempts()) {
+                complete(orderIntake, OrderIntakeStatus.FAILED, errors, completedDate);
+                failedCounter.increment();
+            } else {
+                orderIntake.setStatus(OrderIntakeStatus.PENDING);
+                orderIntake.setNextAttemptDate(completedDate.plus(backoff(orderIntake.getAttempts())));
+                retriedCounter.increment();
+            }
+        }
+        save(orderIntakeList);
+    }
+
+    /**
+     * Returns the retry backoff doubled for every attempt after the first, capped at the maximum retry backoff.
+     */
+    private Duration backoff(int attempts) {
+        Duration maxBackoff = properties.getMaxRetryBackoff();
+        Duration backoff = properties.getRetryBackoff();
+        for (int attempt = 1; attempt < attempts && backoff.compareTo(maxBackoff) < 0; attempt++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    private void complete(OrderIntake orderIntake,
+                          OrderIntakeStatus status,
+                          List<ErrorDto> errors,
+                          LocalDateTime completedDate) {
+        orderIntake.setStatus(status);
+        orderIntake.setErrors(errors != null ? write(errors) : null);
+        orderIntake.setCompletedDate(completedDate);
+    }
+
+    private void save(List<OrderIntake> orderIntakeList) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> orderIntakeRepository.saveAll(orderIntakeList));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Accepted orders were claimed again by another worker: {}", e.getMessage());
+        }
+    }
+
+    private OrderDto readOrder(OrderIntake orderIntake) {
+        try {
+            return objectMapper.readValue(orderIntake.getPayload(), OrderDto.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(List<ErrorDto> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Counter outcomeCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("order.intake.orders").tag("outcome", outcome).register(meterRegistry);
+    }
+}
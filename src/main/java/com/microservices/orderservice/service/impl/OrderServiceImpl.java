@@ -1,25 +1,51 @@
 package com.microservices.orderservice.service.impl;
 
+import com.microservices.orderservice.config.DeleteMode;
+import com.microservices.orderservice.config.OrderCacheConfig;
+import com.microservices.orderservice.config.OrderQueryProperties;
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto.Status;
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
 import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.dto.OrderPageDto;
 import com.microservices.orderservice.dto.ProductDto;
 import com.microservices.orderservice.entity.Order;
 import com.microservices.orderservice.entity.OrderLine;
+import com.microservices.orderservice.exception.ErrorCatalogue;
 import com.microservices.orderservice.exception.OrderServiceException;
-import com.microservices.orderservice.proxy.ProductServiceProxy;
 import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.service.OrderEventOutbox;
 import com.microservices.orderservice.service.OrderService;
+import com.microservices.orderservice.service.ProductPriceResolver;
+import com.microservices.orderservice.service.ProductPriceResolver.ProductLookup;
 import com.microservices.orderservice.service.mapper.OrderLineMapper;
 import com.microservices.orderservice.service.mapper.OrderMapper;
+import com.microservices.orderservice.utility.MoneyUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.microservices.orderservice.utility.ExceptionConstant.*;
+import static com.microservices.orderservice.utility.ValidationConstant.ORDER_NOT_NULL;
 
 /**
  * Implementation of the {@link OrderService} interface providing business logic for order operations.
@@ -36,99 +62,316 @@ public class OrderServiceImpl implements OrderService {
     private final OrderMapper orderMapper;
     private final OrderLineMapper orderLineMapper;
     private final OrderRepository orderRepository;
-    private final ProductServiceProxy productServiceProxy;
+    private final ProductPriceResolver productPriceResolver;
+    private final OrderQueryProperties orderQueryProperties;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ErrorCatalogue errorCatalogue;
+    private final OrderEventOutbox orderEventOutbox;
 
     /**
-     * Retrieves a list of all orders.
+     * Retrieves a page of orders following the given order ID, ordered by their ID.
      *
-     * @return List of OrderDto objects representing all orders.
+     * @param afterOrderId The ID after which the page starts, or null for the first page.
+     * @param size         The requested number of orders, or null for the default page size.
+     * @return The OrderPageDto containing the orders and the cursor of the next page.
      * @throws OrderServiceException if no orders are available.
      */
     @Override
-    public List<OrderDto> getAllOrders() {
+    public OrderPageDto getAllOrders(Long afterOrderId, Integer size) {
         log.debug("Entering in OrderServiceImpl : getAllOrders()");
-        log.info("Getting all orders");
-        List<Order> orderList = orderRepository.findAll();
-        if (orderList.isEmpty()) {
+        log.info("Getting orders after id: {}", afterOrderId);
+        int pageSize = size == null || size < 1 ?
+                orderQueryProperties.getDefaultPageSize() :
+                Math.min(size, orderQueryProperties.getMaxPageSize());
+        // One extra ID tells whether a next page exists without a separate count query.
+        List<Long> orderIdList = orderRepository.findOrderIdsAfter(afterOrderId != null ? afterOrderId : 0L,
+                                                                   Limit.of(pageSize + 1));
+        if (orderIdList.isEmpty()) {
             log.error(GET_ALL_ORDERS_NO_CONTENT);
             throw new OrderServiceException(GET_ALL_ORDERS_NO_CONTENT, HttpStatus.NO_CONTENT);
         }
-        log.debug("Retrieved list of orders : {}", orderMapper.orderListToOrderDtoList(orderList));
+        boolean hasNext = orderIdList.size() > pageSize;
+        List<Long> pageOrderIdList = hasNext ? orderIdList.subList(0, pageSize) : orderIdList;
+        List<Order> orderList = orderRepository.findWithOrderLinesByOrderIdInOrderByOrderIdAsc(pageOrderIdList);
+        List<OrderDto> orderDtoList = orderMapper.orderListToOrderDtoList(orderList);
+        Long nextOrderId = hasNext ? pageOrderIdList.get(pageSize - 1) : null;
+        log.debug("Retrieved {} orders", orderDtoList.size());
+        log.trace("Retrieved list of orders : {}", orderDtoList);
         log.debug("Exiting from OrderServiceImpl : getAllOrders()");
-        return orderMapper.orderListToOrderDtoList(orderList);
+        return new OrderPageDto(orderDtoList, nextOrderId);
     }
 
     /**
-     * Creates a new order.
+     * Streams all orders, ordered by their ID, to the given consumer one at a time.
+     * Every order is detached once consumed so that memory use stays flat regardless of the number of orders.
+     *
+     * @param orderDtoConsumer The consumer receiving every OrderDto.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllOrders(Consumer<OrderDto> orderDtoConsumer) {
+        log.debug("Entering in OrderServiceImpl : streamAllOrders()");
+        log.info("Streaming all orders");
+        try (Stream<Order> orderStream = orderRepository.streamAllOrders()) {
+            orderStream.forEach(order -> {
+                orderDtoConsumer.accept(orderMapper.orderToOrderDto(order));
+                entityManager.detach(order);
+            });
+        }
+        log.debug("Exiting from OrderServiceImpl : streamAllOrders()");
+    }
+
+    /**
+     * Creates a new order and records its creation in the outbox, in the same transaction.
      *
      * @param orderDto The OrderDto object representing the order to be created.
      * @return The created OrderDto.
-     * @throws OrderServiceException if a product is not available or an order cannot be created.
+     * @throws OrderServiceException if a product is not known to the PRODUCT-SERVICE or cannot be looked up,
+     *                               or the order cannot be created.
      */
     @Transactional
     @Override
     public OrderDto createOrder(OrderDto orderDto) {
         log.debug("Entering in OrderServiceImpl : createOrder()");
-        log.info("Creating order: {}", orderDto);
-        double totalPrice = 0;
-        int quantity;
+        log.info("Creating order with {} order lines", orderDto.getOrderLineDtoList().size());
+        log.debug("Creating order : {}", orderDto);
+        List<Long> productIdList = orderDto.getOrderLineDtoList().stream().map(OrderLineDto::getProductId).toList();
+        Map<Long, ProductDto> products = productPriceResolver.resolveProducts(productIdList);
+        log.info("product-service called");
+        if (!products.keySet().containsAll(productIdList)) {
+            log.error(CREATE_ORDER_PRODUCT_NOT_FOUND);
+            throw new OrderServiceException(CREATE_ORDER_PRODUCT_NOT_FOUND, HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        Order savedOrder = orderRepository.save(toOrder(orderDto, products));
+        OrderDto savedOrderDto = recordCreated(savedOrder);
+        log.debug("Created order : {}", savedOrderDto);
+        log.debug("Exiting from OrderServiceImpl : createOrder()");
+        return savedOrderDto;
+    }
+
+    /**
+     * Creates a batch of orders, reporting the outcome of every order separately.
+     * Every order is validated on its own, the products of all valid orders are looked up with a single call,
+     * and the valid orders are saved in chunks, each in its own transaction so that its inserts are JDBC-batched.
+     * Orders referencing an unknown product are reported as invalid and orders referencing a product whose lookup
+     * failed as failed, without affecting the other orders.
+     * When a chunk fails its orders are saved one at a time, so that one bad order only fails itself.
+     * The creation of every saved order is recorded in the outbox by the transaction saving it.
+     *
+     * @param orderDtoList The OrderDto objects representing the orders to be created.
+     * @return The OrderBatchResultDto with the result of every order of the batch.
+     * @throws OrderServiceException if the batch is empty or too large, or the PRODUCT-SERVICE is unavailable
+     *                               or does not answer in time.
+     */
+    @Override
+    public OrderBatchResultDto createOrders(List<OrderDto> orderDtoList) {
+        log.debug("Entering in OrderServiceImpl : createOrders()");
+        log.info("Creating batch of {} orders", orderDtoList.size());
+        OrderQueryProperties.Batch batch = orderQueryProperties.getBatch();
+        if (orderDtoList.isEmpty() || orderDtoList.size() > batch.getMaxSize()) {
+            log.error(CREATE_ORDERS_INVALID_BATCH_SIZE);
+            throw new OrderServiceException(CREATE_ORDERS_INVALID_BATCH_SIZE, HttpStatus.BAD_REQUEST);
+        }
+        OrderBatchItemResultDto[] results = new OrderBatchItemResultDto[orderDtoList.size()];
+        List<Integer> validIndexList = new ArrayList<>();
+        for (int index = 0; index < orderDtoList.size(); index++) {
+            List<ErrorDto> errors = validate(orderDtoList.get(index));
+            if (errors.isEmpty()) {
+                validIndexList.add(index);
+            } else {
+                results[index] = new OrderBatchItemResultDto(index, Status.INVALID, null, errors);
+            }
+        }
+        if (!validIndexList.isEmpty()) {
+            Map<Long, ProductLookup> productLookups = productPriceResolver.lookupProducts(validIndexList.stream()
+                    .flatMap(index -> orderDtoList.get(index).getOrderLineDtoList().stream())
+                    .map(OrderLineDto::getProductId)
+                    .toList());
+            log.info("product-service called");
+            Map<Long, ProductDto> products = new HashMap<>();
+            productLookups.forEach((productId, productLookup) -> {
+                if (productLookup.productDto() != null) {
+                    products.put(productId, productLookup.productDto());
+                }
+            });
+            List<Integer> resolvedIndexList = new ArrayList<>();
+            for (Integer index : validIndexList) {
+                OrderBatchItemResultDto result = checkProducts(index, orderDtoList.get(index), productLookups);
+                if (result == null) {
+                    resolvedIndexList.add(index);
+                } else {
+                    results[index] = result;
+                }
+            }
+            for (int from = 0; from < resolvedIndexList.size(); from += batch.getChunkSize()) {
+                List<Integer> chunk = resolvedIndexList.subList(from, Math.min(from + batch.getChunkSize(),
+                                                                               resolvedIndexList.size()));
+                saveChunk(orderDtoList, chunk, products, results);
+            }
+        }
+        int createdCount = (int) Arrays.stream(results).filter(result -> result.getStatus() == Status.CREATED).count();
+        log.info("Created {} of {} orders", createdCount, results.length);
+        log.debug("Exiting from OrderServiceImpl : createOrders()");
+        return new OrderBatchResultDto(createdCount, results.length - createdCount, List.of(results));
+    }
+
+    private List<ErrorDto> validate(OrderDto orderDto) {
+        if (orderDto == null) {
+            String message = errorCatalogue.getMessage(ORDER_NOT_NULL);
+            return List.of(new ErrorDto(HttpStatus.BAD_REQUEST.value(), message, LocalDateTime.now()));
+        }
+        return validator.validate(orderDto).stream()
+                .map(violation -> new ErrorDto(HttpStatus.BAD_REQUEST.value(),
+                                               violation.getMessage(),
+                                               LocalDateTime.now()))
+                .toList();
+    }
+
+    /**
+     * Returns the result of an order referencing a product that is unknown or whose lookup failed,
+     * or null if every product of the order was resolved.
+     */
+    private OrderBatchItemResultDto checkProducts(int index, OrderDto orderDto, Map<Long, ProductLookup> productLookups) {
+        boolean productMissing = false;
+        for (OrderLineDto orderLineDto : orderDto.getOrderLineDtoList()) {
+            ProductLookup productLookup = productLookups.get(orderLineDto.getProductId());
+            if (productLookup.failure() != null) {
+                ErrorDto errorDto = errorCatalogue.getErrorDto(CREATE_ORDERS_PRODUCT_LOOKUP_FAILED);
+                return new OrderBatchItemResultDto(index, Status.FAILED, null, List.of(errorDto));
+            }
+            productMissing |= productLookup.productDto() == null;
+        }
+        if (productMissing) {
+            ErrorDto errorDto = errorCatalogue.getErrorDto(CREATE_ORDERS_PRODUCT_NOT_FOUND);
+            return new OrderBatchItemResultDto(index, Status.INVALID, null, List.of(errorDto));
+        }
+        return null;
+    }
+
+    private void saveChunk(List<OrderDto> orderDtoList,
+                           List<Integer> chunk,
+                           Map<Long, ProductDto> products,
+                           OrderBatchItemResultDto[] results) {
+        try {
+            List<OrderDto> savedOrderDtoList = transactionTemplate.execute(status -> orderRepository.saveAll(
+                    chunk.stream().map(index -> toOrder(orderDtoList.get(index), products)).toList())
+                    .stream().map(this::recordCreated).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = new OrderBatchItemResultDto(chunk.get(i), Status.CREATED,
+                        savedOrderDtoList.get(i), null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Saving a chunk of {} orders failed, saving them one at a time: {}", chunk.size(), e.getMessage());
+            for (Integer index : chunk) {
+                // Entities of the failed transaction may already carry ids, so every retry maps the order afresh.
+                try {
+                    OrderDto savedOrderDto = transactionTemplate.execute(status ->
+                            recordCreated(orderRepository.save(toOrder(orderDtoList.get(index), products))));
+                    results[index] = new OrderBatchItemResultDto(index, Status.CREATED, savedOrderDto, null);
+                } catch (RuntimeException ex) {
+                    log.error(CREATE_ORDERS_PERSIST_FAILED, ex);
+                    ErrorDto errorDto = errorCatalogue.getErrorDto(CREATE_ORDERS_PERSIST_FAILED);
+                    results[index] = new OrderBatchItemResultDto(index, Status.FAILED, null, List.of(errorDto));
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps a saved order and records its creation in the outbox; must be called within the saving transaction.
+     */
+    private OrderDto recordCreated(Order savedOrder) {
+        OrderDto savedOrderDto = orderMapper.orderToOrderDto(savedOrder);
+        orderEventOutbox.recordOrderCreated(savedOrderDto);
+        return savedOrderDto;
+    }
+
+    /**
+     * Maps an order to its entity, keeping the name and unit price of every product on its order line
+     * so that the order can be read and re-totalled without the PRODUCT-SERVICE.
+     * The total is summed exactly in minor units.
+     */
+    private Order toOrder(OrderDto orderDto, Map<Long, ProductDto> products) {
+        long totalPrice = 0;
         List<OrderLineDto> orderLineDtoList = orderDto.getOrderLineDtoList();
         for (OrderLineDto orderLineDto : orderLineDtoList) {
-            ProductDto productDto = productServiceProxy.getProductById(orderLineDto.getProductId()).getBody();
-            log.info("product-service called");
-            quantity = orderLineDto.getQuantity();
-            totalPrice += (productDto != null ? productDto.getProductPrice() : 0) * quantity;
+            ProductDto productDto = products.get(orderLineDto.getProductId());
+            if (productDto != null) {
+                totalPrice = Math.addExact(totalPrice,
+                                           MoneyUtils.lineTotal(productDto.getProductPrice(), orderLineDto.getQuantity()));
+            }
         }
         orderDto.setTotalPrice(totalPrice);
         Order order = orderMapper.orderDtoToOrder(orderDto);
         List<OrderLine> orderLineList = orderLineMapper.orderLineDtoListToOrderLineList(orderLineDtoList);
         for (OrderLine orderLine : orderLineList) {
+            ProductDto productDto = products.get(orderLine.getProductId());
+            if (productDto != null) {
+                orderLine.setProductName(productDto.getProductName());
+                orderLine.setUnitPrice(productDto.getProductPrice());
+            }
             orderLine.setOrder(order);
         }
         order.setOrderLineList(orderLineList);
-        Order savedOrder = orderRepository.save(order);
-        log.debug("Created order : {}", orderMapper.orderToOrderDto(savedOrder));
-        log.debug("Exiting from OrderServiceImpl : createOrder()");
-        return orderMapper.orderToOrderDto(savedOrder);
+        return order;
     }
 
-
-
     /**
-     * Retrieves an order by its ID.
+     * Retrieves an order by its ID, from the order cache when it holds the order.
+     * Cached orders are shared between callers and must not be modified.
      *
      * @param orderId The ID of the order to retrieve.
      * @return The OrderDto with the specified ID.
      * @throws OrderServiceException if the order is not found.
      */
     @Override
+    @Cacheable(cacheNames = OrderCacheConfig.ORDER_CACHE, key = "#orderId")
     public OrderDto getOrderById(Long orderId) {
         log.debug("Entering in OrderServiceImpl : getOrderById()");
         log.info("Getting order by id: {}", orderId);
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithOrderLinesByOrderId(orderId)
                 .orElseThrow(() -> new OrderServiceException(GET_ORDER_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
-        log.debug("Retrieved order : {}", orderMapper.orderToOrderDto(order));
+        OrderDto orderDto = orderMapper.orderToOrderDto(order);
+        log.debug("Retrieved order : {}", orderDto);
         log.debug("Exiting from OrderServiceImpl : getOrderById()");
-        return orderMapper.orderToOrderDto(order);
+        return orderDto;
     }
 
     /**
-     * Deletes an order by its ID.
+     * Deletes an order by its ID and evicts it from the order cache once the transaction has committed.
+     * The order is loaded once, then either flagged as deleted or deleted together with its order lines
+     * by bulk statements, and its deletion is recorded in the outbox, all in one transaction.
      *
      * @param orderId The ID of the order to delete.
      * @return The deleted OrderDto.
-     * @throws OrderServiceException if the order is not found.
+     * @throws OrderServiceException if the order is not found or was deleted concurrently.
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = OrderCacheConfig.ORDER_CACHE, key = "#orderId")
     public OrderDto deleteOrderById(Long orderId) {
         log.debug("Entering in OrderServiceImpl : deleteOrderById()");
         log.info("Deleting order by id: {}", orderId);
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithOrderLinesByOrderId(orderId)
                 .orElseThrow(() -> new OrderServiceException(DELETE_ORDER_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
-        orderRepository.deleteById(orderId);
-        log.debug("Deleted order : {}", orderMapper.orderToOrderDto(order));
+        OrderDto orderDto = orderMapper.orderToOrderDto(order);
+        int deletedCount;
+        if (orderQueryProperties.getDeleteMode() == DeleteMode.SOFT) {
+            deletedCount = orderRepository.softDeleteByOrderId(orderId, LocalDateTime.now());
+        } else {
+            orderRepository.deleteOrderLinesByOrderId(orderId);
+            deletedCount = orderRepository.deleteOrderByOrderId(orderId);
+        }
+        // The order was deleted by a concurrent request after it was loaded.
+        if (deletedCount == 0) {
+            throw new OrderServiceException(DELETE_ORDER_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        orderEventOutbox.recordOrderDeleted(orderDto);
+        log.debug("Deleted order : {}", orderDto);
         log.debug("Exiting from OrderServiceImpl : deleteOrderById()");
-        return orderMapper.orderToOrderDto(order);
+        return orderDto;
     }
 
 }
@@ -0,0 +1,90 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.OrderCacheConfig;
+import com.microservices.orderservice.config.OrderStatsProperties;
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.service.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_STATS_INVALID_RANGE;
+
+/**
+ * Implementation of the {@link OrderStatsService} interface computing the statistics with aggregate queries,
+ * so that only the aggregated rows leave the database. Results are cached for a short time, so that dashboards
+ * refreshing the same statistics do not run the queries every time.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderStatsServiceImpl implements OrderStatsService {
+
+    private final OrderRepository orderRepository;
+    private final OrderStatsProperties orderStatsProperties;
+
+    /**
+     * Retrieves the number of orders and their revenue for every day of a period with orders.
+     *
+     * @param from The first day of the period.
+     * @param to   The last day of the period.
+     * @return List of DailyOrderStatsDto objects, ordered by day.
+     * @throws OrderServiceException if the period is reversed or longer than the configured maximum.
+     */
+    @Cacheable(cacheNames = OrderCacheConfig.ORDER_STATS_CACHE, key = "{#root.methodName, #from, #to}")
+    @Override
+    public List<DailyOrderStatsDto> getDailyOrderStats(LocalDate from, LocalDate to) {
+        log.debug("Entering in OrderStatsServiceImpl : getDailyOrderStats()");
+        log.info("Getting daily order statistics from {} to {}", from, to);
+        validateRange(from, to);
+        List<DailyOrderStatsDto> dailyOrderStatsDtoList = orderRepository.findDailyOrderStats(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        log.debug("Exiting from OrderStatsServiceImpl : getDailyOrderStats()");
+        return dailyOrderStatsDtoList;
+    }
+
+    /**
+     * Retrieves the products ordered most over a period.
+     *
+     * @param from  The first day of the period.
+     * @param to    The last day of the period.
+     * @param limit The requested number of products, or null for the default number.
+     * @return List of ProductSalesDto objects, by descending quantity.
+     * @throws OrderServiceException if the period is reversed or longer than the configured maximum.
+     */
+    @Cacheable(cacheNames = OrderCacheConfig.ORDER_STATS_CACHE, key = "{#root.methodName, #from, #to, #limit}")
+    @Override
+    public List<ProductSalesDto> getTopProducts(LocalDate from, LocalDate to, Integer limit) {
+        log.debug("Entering in OrderStatsServiceImpl : getTopProducts()");
+        log.info("Getting top products from {} to {}", from, to);
+        validateRange(from, to);
+        int productCount = limit == null || limit < 1 ?
+                orderStatsProperties.getDefaultTopProducts() :
+                Math.min(limit, orderStatsProperties.getMaxTopProducts());
+        List<ProductSalesDto> productSalesDtoList = orderRepository.findTopProductSales(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), Limit.of(productCount));
+        log.debug("Exiting from OrderStatsServiceImpl : getTopProducts()");
+        return productSalesDtoList;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= orderStatsProperties.getMaxRangeDays()) {
+            log.error(ORDER_STATS_INVALID_RANGE);
+            throw new OrderServiceException(ORDER_STATS_INVALID_RANGE, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.OrderEventDto;
+import com.microservices.orderservice.entity.OutboxEvent;
+import com.microservices.orderservice.repository.OutboxEventRepository;
+import com.microservices.orderservice.service.OrderEventSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Publishes the events recorded in the outbox to the order event sink in batches, oldest first, and deletes
+ * every batch in the transaction that locked it once the sink has accepted it. A batch rejected by the sink
+ * stays in the outbox and is published again on the next run, so events are delivered at least once.
+ * Published and failed events are counted by the {@code order.outbox.events} metric.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventSink orderEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    /**
+     * Constructs a new OutboxRelay.
+     *
+     * @param outboxEventRepository The repository of the outbox events.
+     * @param orderEventSink        The sink the events are published to.
+     * @param transactionTemplate   The template running every batch in its own transaction.
+     * @param batchSize             The maximum number of events published at once.
+     * @param meterRegistry         The registry the event counts are published to.
+     */
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OrderEventSink orderEventSink,
+                       TransactionTemplate transactionTemplate,
+                       int batchSize,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderEventSink = orderEventSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("order.outbox.events").tag("outcome", "published")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.outbox.events").tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the events of the outbox until it is empty or the sink fails.
+     */
+    public void relay() {
+        try {
+            int publishedCount;
+            do {
+                publishedCount = transactionTemplate.execute(status -> publishBatch());
+            } while (publishedCount == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Publishing order events failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> outboxEventList = outboxEventRepository.findOldestForPublishing(Limit.of(batchSize));
+        if (outboxEventList.isEmpty()) {
+            return 0;
+        }
+        List<OrderEventDto> orderEventDtoList = outboxEventList.stream()
+                .map(outboxEvent -> new OrderEventDto(outboxEvent.getEventId(), outboxEvent.getEventType(),
+                                                      outboxEvent.getOrderId(), outboxEvent.getOccurredDate(),
+                                                      outboxEvent.getPayload()))
+                .toList();
+        try {
+            orderEventSink.publish(orderEventDtoList);
+        } catch (RuntimeException e) {
+            failedCounter.increment(orderEventDtoList.size());
+            throw e;
+        }
+        outboxEventRepository.deleteAllInBatch(outboxEventList);
+        publishedCounter.increment(orderEventDtoList.size());
+        log.debug("Published {} order events", orderEventDtoList.size());
+        return orderEventDtoList.size();
+    }
+}
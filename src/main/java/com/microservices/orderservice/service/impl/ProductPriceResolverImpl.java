@@ -0,0 +1,150 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ProductLookupProperties;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.ProductFetcher;
+import com.microservices.orderservice.service.ProductPriceResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_REJECTED;
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_TIMEOUT;
+
+/**
+ * Implementation of the {@link ProductPriceResolver} interface that collapses duplicate product IDs
+ * and issues the remaining lookups concurrently through the {@link ProductFetcher}, bounded by a per-order deadline.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@Service
+public class ProductPriceResolverImpl implements ProductPriceResolver {
+
+    private final ProductFetcher productFetcher;
+    private final Duration deadline;
+
+    /**
+     * Constructs a new ProductPriceResolverImpl.
+     *
+     * @param productFetcher The fetcher used to look up single products.
+     * @param properties     The product lookup configuration properties.
+     */
+    public ProductPriceResolverImpl(ProductFetcher productFetcher, ProductLookupProperties properties) {
+        this.productFetcher = productFetcher;
+        this.deadline = properties.getDeadline();
+    }
+
+    /**
+     * Resolves the products with the given IDs, fetching every distinct ID only once.
+     *
+     * @param productIds The IDs of the products to resolve, possibly containing duplicates.
+     * @return Map of product ID to ProductDto for every product the PRODUCT-SERVICE returned.
+     * @throws OrderServiceException if the lookups cannot be scheduled or do not complete before the deadline.
+     */
+    @Override
+    public Map<Long, ProductDto> resolveProducts(Collection<Long> productIds) {
+        Map<Long, ProductDto> products = new HashMap<>();
+        lookupProducts(productIds).forEach((productId, productLookup) -> {
+            if (productLookup.failure() != null) {
+                throw productLookup.failure();
+            }
+            if (productLookup.productDto() != null) {
+                products.put(productId, productLookup.productDto());
+            }
+        });
+        return products;
+    }
+
+    /**
+     * Looks up the products with the given IDs, fetching every distinct ID only once and keeping the outcome
+     * of every lookup. Failures affecting every lookup, a PRODUCT-SERVICE reported as unavailable or timed out,
+     * rejected lookups and the deadline, fail the whole call instead.
+     *
+     * @param productIds The IDs of the products to look up, possibly containing duplicates.
+     * @return Map of product ID to the ProductLookup of every distinct ID.
+     * @throws OrderServiceException if the lookups cannot be scheduled, do not complete before the deadline,
+     *                               or the PRODUCT-SERVICE is unavailable.
+     */
+    @Override
+    public Map<Long, ProductLookup> lookupProducts(Collection<Long> productIds) {
+        LinkedHashSet<Long> distinctProductIds = new LinkedHashSet<>(productIds);
+        log.debug("Resolving {} distinct products for {} order lines", distinctProductIds.size(), productIds.size());
+        Map<Long, CompletableFuture<ProductDto>> lookups = new LinkedHashMap<>();
+        try {
+            for (Long productId : distinctProductIds) {
+                lookups.put(productId, productFetcher.fetchProduct(productId));
+            }
+        } catch (RejectedExecutionException e) {
+            cancelAll(lookups);
+            log.error(PRODUCT_LOOKUP_REJECTED);
+            throw new OrderServiceException(PRODUCT_LOOKUP_REJECTED, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        awaitAll(lookups);
+        Map<Long, ProductLookup> productLookups = new LinkedHashMap<>();
+        lookups.forEach((productId, lookup) -> {
+            try {
+                productLookups.put(productId, new ProductLookup(lookup.join(), null));
+            } catch (CompletionException e) {
+                RuntimeException failure = unwrap(e);
+                if (failure instanceof RejectedExecutionException) {
+                    log.error(PRODUCT_LOOKUP_REJECTED);
+                    throw new OrderServiceException(PRODUCT_LOOKUP_REJECTED, HttpStatus.SERVICE_UNAVAILABLE);
+                }
+                if (failure instanceof OrderServiceException) {
+                    throw failure;
+                }
+                log.warn("Lookup of product {} failed: {}", productId, failure.toString());
+                productLookups.put(productId, new ProductLookup(null, failure));
+            }
+        });
+        return productLookups;
+    }
+
+    /**
+     * Waits until every lookup completed, successfully or not, or cancels them all once the deadline passed.
+     */
+    private void awaitAll(Map<Long, CompletableFuture<ProductDto>> lookups) {
+        try {
+            CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                    .get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancelAll(lookups);
+            log.error(PRODUCT_LOOKUP_TIMEOUT);
+            throw new OrderServiceException(PRODUCT_LOOKUP_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(lookups);
+            throw new OrderServiceException(PRODUCT_LOOKUP_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT);
+        } catch (ExecutionException e) {
+            // Every lookup completed; the failed ones are reported per product.
+        }
+    }
+
+    private static void cancelAll(Map<Long, CompletableFuture<ProductDto>> lookups) {
+        lookups.values().forEach(lookup -> lookup.cancel(true));
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        Throwable actual = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+        return actual instanceof RuntimeException runtimeException ?
+                runtimeException :
+                new IllegalStateException(actual);
+    }
+}
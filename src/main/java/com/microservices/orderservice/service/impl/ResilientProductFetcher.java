@@ -0,0 +1,132 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.ProductFetcher;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_TIMEOUT;
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_SERVICE_UNAVAILABLE;
+
+/**
+ * Implementation of the {@link ProductFetcher} interface that guards every product lookup of another
+ * ProductFetcher with a time limit, a circuit breaker and retries, so that only the failed lookups are repeated.
+ * Every attempt is time limited and recorded by the circuit breaker; once the circuit is open, lookups fail
+ * at once instead of being retried. A lookup whose caller gave up, e.g. at the order deadline, is not retried.
+ * Lookups that still fail are reported as an unavailable or timed out PRODUCT-SERVICE; failures the retry
+ * ignores, such as a rejected lookup, are passed on unchanged.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class ResilientProductFetcher implements ProductFetcher, DisposableBean {
+
+    private final ProductFetcher productFetcher;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final TimeLimiter timeLimiter;
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * Constructs a new ResilientProductFetcher.
+     *
+     * @param productFetcher The fetcher that calls the PRODUCT-SERVICE.
+     * @param circuitBreaker The circuit breaker recording every attempt.
+     * @param retry          The retry repeating failed lookups.
+     * @param timeLimiter    The time limit of every attempt.
+     */
+    public ResilientProductFetcher(ProductFetcher productFetcher,
+                                   CircuitBreaker circuitBreaker,
+                                   Retry retry,
+                                   TimeLimiter timeLimiter) {
+        this.productFetcher = productFetcher;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = retry;
+        this.timeLimiter = timeLimiter;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("product-retry-"));
+    }
+
+    /**
+     * Fetches the product with the given ID, retrying the lookup if it fails.
+     *
+     * @param productId The unique identifier of the product.
+     * @return Future completed with the ProductDto, or with null if the product does not exist.
+     */
+    @Override
+    public CompletableFuture<ProductDto> fetchProduct(Long productId) {
+        CompletableFuture<ProductDto> lookup = new CompletableFuture<>();
+        attempt(productId, retry.asyncContext(), lookup);
+        return lookup;
+    }
+
+    /**
+     * Shuts down the retry scheduler when the application context is closed.
+     */
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+
+    private void attempt(Long productId,
+                         Retry.AsyncContext<ProductDto> retryContext,
+                         CompletableFuture<ProductDto> lookup) {
+        if (lookup.isDone()) {
+            return;
+        }
+        circuitBreaker.decorateCompletionStage(timeLimiter.decorateCompletionStage(
+                        retryScheduler, () -> productFetcher.fetchProduct(productId)))
+                .get()
+                .whenComplete((productDto, throwable) -> {
+                    if (throwable == null) {
+                        retryContext.onComplete();
+                        lookup.complete(productDto);
+                        return;
+                    }
+                    Throwable failure = throwable instanceof CompletionException && throwable.getCause() != null ?
+                            throwable.getCause() :
+                            throwable;
+                    // Retrying against an open circuit would only repeat the rejection.
+                    long delayMillis = failure instanceof CallNotPermittedException ?
+                            -1 :
+                            retryContext.onError(failure);
+                    if (delayMillis < 0) {
+                        lookup.completeExceptionally(translate(productId, failure));
+                        return;
+                    }
+                    log.debug("Retrying product {} lookup in {} ms after {}", productId, delayMillis, failure.toString());
+                    retryScheduler.schedule(() -> attempt(productId, retryContext, lookup),
+                                            delayMillis,
+                                            TimeUnit.MILLISECONDS);
+                });
+    }
+
+    private Throwable translate(Long productId, Throwable failure) {
+        if (failure instanceof TimeoutException) {
+            log.error(PRODUCT_LOOKUP_TIMEOUT);
+            return new OrderServiceException(PRODUCT_LOOKUP_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT);
+        }
+        if (failure instanceof CallNotPermittedException
+                || retry.getRetryConfig().getExceptionPredicate().test(failure)) {
+            log.error("{} for product {}: {}", PRODUCT_SERVICE_UNAVAILABLE, productId, failure.toString());
+            return new OrderServiceException(PRODUCT_SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return failure;
+    }
+}
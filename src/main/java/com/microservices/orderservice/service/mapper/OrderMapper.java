@@ -26,6 +26,7 @@ public interface OrderMapper {
     @Mapping(source = "orderId", target = "orderId", ignore = true)
     @Mapping(source = "createdDate", target = "createdDate", ignore = true)
     @Mapping(source = "modifiedDate", target = "modifiedDate", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "orderLineList", source = "orderLineDtoList")
     Order orderDtoToOrder(OrderDto orderDto);
 
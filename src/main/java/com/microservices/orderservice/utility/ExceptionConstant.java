@@ -27,5 +27,69 @@ public class ExceptionConstant {
      * Exception key for indicating that an order is unavailable while executing deleteOrderById method.
      */
     public static final String DELETE_ORDER_BY_ID_NOT_FOUND = "error.orderunavailable.deleteorderbyid";
+    /**
+     * Exception key for indicating that the products could not be resolved in time while executing createOrder method.
+     */
+    public static final String PRODUCT_LOOKUP_TIMEOUT = "error.productlookuptimeout.createorder";
+    /**
+     * Exception key for indicating that the product lookups were rejected while executing createOrder method.
+     */
+    public static final String PRODUCT_LOOKUP_REJECTED = "error.productlookuprejected.createorder";
+    /**
+     * Exception key for indicating that the product-service is failing or its circuit is open while executing createOrder method.
+     */
+    public static final String PRODUCT_SERVICE_UNAVAILABLE = "error.productserviceunavailable.createorder";
+    /**
+     * Exception key for indicating that an order references an unknown product while executing createOrder method.
+     */
+    public static final String CREATE_ORDER_PRODUCT_NOT_FOUND = "error.productunavailable.createorder";
+    /**
+     * Exception key for indicating that an order batch is empty or too large while executing createOrders method.
+     */
+    public static final String CREATE_ORDERS_INVALID_BATCH_SIZE = "error.invalidbatchsize.createorders";
+    /**
+     * Exception key for indicating that an order of a batch could not be persisted while executing createOrders method.
+     */
+    public static final String CREATE_ORDERS_PERSIST_FAILED = "error.orderpersistfailed.createorders";
+    /**
+     * Exception key for indicating that an order of a batch references an unknown product while executing createOrders method.
+     */
+    public static final String CREATE_ORDERS_PRODUCT_NOT_FOUND = "error.productunavailable.createorders";
+    /**
+     * Exception key for indicating that a product of an order of a batch could not be looked up while executing createOrders method.
+     */
+    public static final String CREATE_ORDERS_PRODUCT_LOOKUP_FAILED = "error.productlookupfailed.createorders";
+    /**
+     * Exception key for indicating that an idempotency key was reused with a different order while executing createOrder method.
+     */
+    public static final String IDEMPOTENCY_KEY_REUSED = "error.idempotencykeyreused.createorder";
+    /**
+     * Exception key for indicating that a statistics period is reversed or too long while executing the order statistics methods.
+     */
+    public static final String ORDER_STATS_INVALID_RANGE = "error.invalidrange.orderstats";
+    /**
+     * Exception key for indicating that the order intake is full while executing submitOrder method.
+     */
+    public static final String ORDER_INTAKE_FULL = "error.intakefull.submitorder";
+    /**
+     * Exception key for indicating that an order intake is unavailable while executing getOrderIntake method.
+     */
+    public static final String GET_ORDER_INTAKE_NOT_FOUND = "error.intakeunavailable.getorderintake";
+    /**
+     * Exception key for indicating that an accepted order timed out on its last attempt while executing processBatch method.
+     */
+    public static final String ORDER_INTAKE_ATTEMPTS_EXHAUSTED = "error.attemptsexhausted.processbatch";
+    /**
+     * Exception key for indicating that order creation is at its concurrency limit while executing createOrder method.
+     */
+    public static final String CREATE_ORDER_OVERLOADED = "error.overloaded.createorder";
+    /**
+     * Exception key for indicating that order creation is at its concurrency limit while executing createOrders method.
+     */
+    public static final String CREATE_ORDERS_OVERLOADED = "error.overloaded.createorders";
+    /**
+     * Exception key for indicating that all order streams are in use while executing streamAllOrders method.
+     */
+    public static final String STREAM_ALL_ORDERS_REJECTED = "error.streamrejected.streamallorders";
 
 }
@@ -0,0 +1,42 @@
+package com.microservices.orderservice.utility;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Jackson deserializer reading a decimal number, or a string holding one, of currency units as a price
+ * in minor units. The number is read from its text, without going through a {@code double}.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class MoneyDeserializer extends StdDeserializer<Long> {
+
+    /**
+     * Constructs a new MoneyDeserializer.
+     */
+    public MoneyDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> MoneyUtils.toMinorUnits(parser.getDecimalValue());
+            case VALUE_STRING -> {
+                String text = parser.getText().trim();
+                try {
+                    yield MoneyUtils.toMinorUnits(new BigDecimal(text));
+                } catch (NumberFormatException | ArithmeticException e) {
+                    yield (Long) context.handleWeirdStringValue(Long.class, text, "not a valid price");
+                }
+            }
+            default -> (Long) context.handleUnexpectedToken(Long.class, parser);
+        };
+    }
+}
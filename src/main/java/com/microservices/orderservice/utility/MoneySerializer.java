@@ -0,0 +1,30 @@
+package com.microservices.orderservice.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer writing a price held in minor units as a decimal number of currency units,
+ * so that the JSON representation of the prices does not change with their internal representation.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class MoneySerializer extends StdSerializer<Long> {
+
+    /**
+     * Constructs a new MoneySerializer.
+     */
+    public MoneySerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long minorUnits, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(MoneyUtils.toDecimal(minorUnits));
+    }
+}
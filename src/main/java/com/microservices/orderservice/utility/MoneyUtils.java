@@ -0,0 +1,59 @@
+package com.microservices.orderservice.utility;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Utility class for the prices of the order-service, held as a {@code long} count of minor units
+ * (hundredths of the currency unit) so that totals are exact and computed without allocating.
+ * Arithmetic on minor units throws an {@link ArithmeticException} instead of overflowing silently.
+ *
+ * @author priyanshu
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class MoneyUtils {
+
+    /**
+     * The number of decimal places of a price in currency units.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private MoneyUtils() {}
+
+    /**
+     * Converts a price in currency units to minor units, rounding half-even any digits beyond the minor unit.
+     *
+     * @param amount The price in currency units.
+     * @return The price in minor units.
+     * @throws ArithmeticException if the price does not fit in a long.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts a price in minor units to currency units.
+     *
+     * @param minorUnits The price in minor units.
+     * @return The price in currency units, with two decimal places.
+     */
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Returns the total price of an order line.
+     *
+     * @param unitPrice The unit price of the product in minor units.
+     * @param quantity  The quantity of the product.
+     * @return The total price of the order line in minor units.
+     * @throws ArithmeticException if the total overflows a long.
+     */
+    public static long lineTotal(long unitPrice, int quantity) {
+        return Math.multiplyExact(unitPrice, quantity);
+    }
+}
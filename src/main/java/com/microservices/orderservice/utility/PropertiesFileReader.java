@@ -3,8 +3,6 @@ package com.microservices.orderservice.utility;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.ResourceUtils;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
@@ -28,14 +26,15 @@ public final class PropertiesFileReader {
 
     /**
      * Returns the properties from the properties file.
+     * The file is read through its URL, so that {@code classpath:} files can also be read from inside a jar.
      *
-     * @return The properties from the properties file.
+     * @param filePath The location of the properties file, such as {@code classpath:messages.properties}.
+     * @return The properties from the properties file, empty if the file cannot be read.
      */
     public static Properties getProperties(String filePath) {
         Properties properties = new Properties();
         try {
-            File file = ResourceUtils.getFile(filePath);
-            try (InputStream in = new FileInputStream(file)) {
+            try (InputStream in = ResourceUtils.getURL(filePath).openStream()) {
                 properties.load(in);
             }
         } catch (IOException e) {
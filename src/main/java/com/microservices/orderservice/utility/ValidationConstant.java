@@ -15,6 +15,11 @@ public class ValidationConstant {
      */
     private ValidationConstant() {}
 
+    /**
+     * Validation message key indicating that an order of a batch must not be null.
+     */
+    public static final String ORDER_NOT_NULL = "validation.order.notNull";
+
     /**
      * Validation message indicating that the order lines must not be empty.
      */
@@ -0,0 +1,18 @@
+-- The order tables as created by Hibernate for version 1.0 of the order-service, before the schema was migrated.
+-- A database already holding them is baselined below this version and keeps them as they are.
+create table if not exists order_tbl (
+    total_price float(53) not null,
+    created_date datetime(6),
+    modified_date datetime(6),
+    order_id bigint not null auto_increment,
+    primary key (order_id)
+) engine=InnoDB;
+
+create table if not exists order_line (
+    quantity integer not null,
+    order_id bigint not null,
+    order_line_id bigint not null auto_increment,
+    product_id bigint,
+    primary key (order_line_id),
+    constraint fk_order_line_order foreign key (order_id) references order_tbl (order_id)
+) engine=InnoDB;
@@ -0,0 +1,17 @@
+-- Order and order line ids are drawn from pooled sequences, so that inserts can be batched, instead of being
+-- generated by the database. MySQL keeps the sequences as tables with a next_val column.
+--
+-- Each sequence starts past the largest existing id, at max(id) + 50, the allocation size mapped on the entities,
+-- so that the first block handed out starts at max(id) + 1.
+--
+-- Instances of earlier versions still have the database generate ids until every instance runs this version.
+-- The counter of each table is moved to 10^12, far past any block the sequences hand out, so that the ids of both
+-- never meet: an id inserted below the counter leaves it where it is.
+create table order_seq (next_val bigint) engine=InnoDB;
+insert into order_seq select coalesce(max(order_id), 0) + 50 from order_tbl;
+
+create table order_line_seq (next_val bigint) engine=InnoDB;
+insert into order_line_seq select coalesce(max(order_line_id), 0) + 50 from order_line;
+
+alter table order_tbl auto_increment = 1000000000000;
+alter table order_line auto_increment = 1000000000000;
@@ -0,0 +1,11 @@
+-- Prices are kept as whole minor units instead of floating-point currency units.
+--
+-- The order total is copied, multiplied by 100 and rounded, into total_price_minor. The total_price column stays
+-- until every instance runs this version: earlier instances keep reading and writing it, this version writes both
+-- columns and reads the total of an order written by an earlier instance from total_price. Drop it in a later
+-- migration.
+alter table order_tbl add column total_price_minor bigint;
+update order_tbl set total_price_minor = round(total_price * 100);
+
+-- Order lines had no price before, so their unit price is kept in minor units from the start.
+alter table order_line add column unit_price bigint;
@@ -0,0 +1,13 @@
+-- The outbox of order events, written in the transaction of the order and relayed by the outbox relay.
+-- The payload is the order as JSON, in a longtext column: a tinytext holds at most 255 bytes.
+create table outbox_event (
+    event_id bigint not null,
+    occurred_date datetime(6) not null,
+    order_id bigint not null,
+    event_type enum ('ORDER_CREATED','ORDER_DELETED') not null,
+    payload longtext not null,
+    primary key (event_id)
+) engine=InnoDB;
+
+create table outbox_event_seq (next_val bigint) engine=InnoDB;
+insert into outbox_event_seq values (1);
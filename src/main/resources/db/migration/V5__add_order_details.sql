@@ -0,0 +1,7 @@
+-- Orders are soft-deleted by flagging them, and order lines keep the name of their product when the order was
+-- created. Orders are looked up by creation date for the stats, and order lines by order and product.
+alter table order_tbl add column deleted bit default false not null;
+create index idx_order_created_date on order_tbl (created_date);
+
+alter table order_line add column product_name varchar(255);
+create index idx_order_line_order_product on order_line (order_id, product_id);
@@ -0,0 +1,20 @@
+-- The order intake, holding the orders submitted for asynchronous creation until the intake worker creates them.
+-- The payload and the errors are JSON, in longtext columns: a tinytext holds at most 255 bytes.
+create table order_intake (
+    attempts integer not null,
+    claimed_date datetime(6),
+    completed_date datetime(6),
+    intake_id bigint not null,
+    next_attempt_date datetime(6),
+    order_id bigint,
+    submitted_date datetime(6) not null,
+    version bigint not null,
+    errors longtext,
+    payload longtext not null,
+    status enum ('PENDING','PROCESSING','CREATED','INVALID','FAILED') not null,
+    primary key (intake_id)
+) engine=InnoDB;
+create index idx_order_intake_status on order_intake (status);
+
+create table order_intake_seq (next_val bigint) engine=InnoDB;
+insert into order_intake_seq values (1);
@@ -0,0 +1,56 @@
+package com.microservices.orderservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateOrderExecutorConfigTest {
+    private final CreateOrderExecutorConfig createOrderExecutorConfig = new CreateOrderExecutorConfig();
+
+    @Test
+    @DisplayName("CREATE ORDER EXECUTOR - PLATFORM MODE")
+    void CreateOrderExecutor_PlatformMode_BoundedPoolCreated() throws Exception {
+        CreateOrderExecutorProperties properties = new CreateOrderExecutorProperties();
+        properties.setCoreSize(2);
+        properties.setMaxSize(4);
+        properties.setQueueCapacity(8);
+
+        AsyncTaskExecutor executor = createOrderExecutorConfig.createOrderExecutor(properties);
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = assertInstanceOf(ThreadPoolTaskExecutor.class, executor);
+        threadPoolTaskExecutor.initialize();
+        try {
+            assertEquals(2, threadPoolTaskExecutor.getCorePoolSize());
+            assertEquals(4, threadPoolTaskExecutor.getMaxPoolSize());
+            assertEquals(8, threadPoolTaskExecutor.getQueueCapacity());
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertTrue(threadName.startsWith("create-order-"));
+        } finally {
+            threadPoolTaskExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("CREATE ORDER EXECUTOR - VIRTUAL MODE")
+    void CreateOrderExecutor_VirtualMode_VirtualThreadsUsedWhenSupported() throws Exception {
+        CreateOrderExecutorProperties properties = new CreateOrderExecutorProperties();
+        properties.setMode(ExecutorMode.VIRTUAL);
+
+        AsyncTaskExecutor executor = createOrderExecutorConfig.createOrderExecutor(properties);
+
+        if (Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = assertInstanceOf(SimpleAsyncTaskExecutor.class, executor);
+            assertEquals(properties.getMaxSize(), simpleAsyncTaskExecutor.getConcurrencyLimit());
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertTrue(threadName.startsWith("create-order-"));
+        } else {
+            assertInstanceOf(ThreadPoolTaskExecutor.class, executor);
+        }
+    }
+}
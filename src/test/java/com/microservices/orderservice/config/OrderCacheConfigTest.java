@@ -0,0 +1,124 @@
+package com.microservices.orderservice.config;
+
+import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.service.OrderEventOutbox;
+import com.microservices.orderservice.service.OrderService;
+import com.microservices.orderservice.service.OrderStatsService;
+import com.microservices.orderservice.service.impl.OrderServiceImpl;
+import com.microservices.orderservice.service.impl.OrderStatsServiceImpl;
+import com.microservices.orderservice.service.mapper.OrderMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderCacheConfigTest {
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderMapper orderMapper = mock(OrderMapper.class);
+    private AnnotationConfigApplicationContext context;
+    private OrderService orderService;
+    private OrderStatsService orderStatsService;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.register(OrderCacheConfig.class);
+        context.registerBean(CacheManager.class, () -> {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(OrderCacheConfig.ORDER_CACHE);
+            new OrderCacheConfig().orderStatsCacheCustomizer(new OrderStatsProperties()).customize(cacheManager);
+            return cacheManager;
+        });
+        context.registerBean(OrderServiceImpl.class, () -> new OrderServiceImpl(orderMapper, null, orderRepository,
+                                                                                null, new OrderQueryProperties(),
+                                                                                null, null, null, null,
+                                                                                mock(OrderEventOutbox.class)));
+        context.registerBean(OrderStatsServiceImpl.class, () -> new OrderStatsServiceImpl(orderRepository,
+                                                                                          new OrderStatsProperties()));
+        context.refresh();
+        orderService = context.getBean(OrderService.class);
+        orderStatsService = context.getBean(OrderStatsService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("GET ORDER BY ID - CACHED")
+    void GetOrderById_CalledTwice_OrderLoadedOnce() {
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(orderOne));
+        when(orderMapper.orderToOrderDto(orderOne)).thenReturn(orderDtoOne);
+
+        assertSame(orderDtoOne, orderService.getOrderById(ORDER_ID_ONE));
+        assertSame(orderDtoOne, orderService.getOrderById(ORDER_ID_ONE));
+
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(ORDER_ID_ONE);
+    }
+
+    @Test
+    @DisplayName("DELETE ORDER BY ID - CACHE EVICTED")
+    void DeleteOrderById_CachedOrder_OrderEvicted() {
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(orderOne));
+        when(orderMapper.orderToOrderDto(orderOne)).thenReturn(orderDtoOne);
+        when(orderRepository.deleteOrderByOrderId(ORDER_ID_ONE)).thenReturn(1);
+        orderService.getOrderById(ORDER_ID_ONE);
+
+        orderService.deleteOrderById(ORDER_ID_ONE);
+
+        assertNull(context.getBean(CacheManager.class).getCache(OrderCacheConfig.ORDER_CACHE).get(ORDER_ID_ONE));
+        orderService.getOrderById(ORDER_ID_ONE);
+        verify(orderRepository, times(3)).findWithOrderLinesByOrderId(ORDER_ID_ONE);
+    }
+
+    @Test
+    @DisplayName("DELETE ORDER BY ID - CACHE EVICTED AFTER COMMIT")
+    void DeleteOrderById_InTransaction_OrderEvictedAfterCommit() {
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(orderOne));
+        when(orderMapper.orderToOrderDto(orderOne)).thenReturn(orderDtoOne);
+        when(orderRepository.deleteOrderByOrderId(ORDER_ID_ONE)).thenReturn(1);
+        orderService.getOrderById(ORDER_ID_ONE);
+        Cache orderCache = context.getBean(CacheManager.class).getCache(OrderCacheConfig.ORDER_CACHE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderService.deleteOrderById(ORDER_ID_ONE);
+
+            assertNotNull(orderCache.get(ORDER_ID_ONE));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(orderCache.get(ORDER_ID_ONE));
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - CACHED PER STATISTIC AND PERIOD")
+    void GetOrderStats_CalledTwice_QueriedOncePerStatistic() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+
+        orderStatsService.getDailyOrderStats(day, day);
+        orderStatsService.getDailyOrderStats(day, day);
+        orderStatsService.getTopProducts(day, day, null);
+        orderStatsService.getTopProducts(day, day, null);
+        orderStatsService.getDailyOrderStats(day, day.plusDays(1));
+
+        verify(orderRepository, times(2)).findDailyOrderStats(any(), any());
+        verify(orderRepository, times(1)).findTopProductSales(any(), any(), any());
+    }
+}
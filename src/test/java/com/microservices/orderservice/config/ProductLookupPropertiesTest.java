@@ -0,0 +1,42 @@
+package com.microservices.orderservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductLookupPropertiesTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    @DisplayName("PRODUCT LOOKUP PROPERTIES - HEDGING ALONE ACCEPTED")
+    void Bind_HedgingEnabled_PropertiesBound() {
+        contextRunner.withPropertyValues("order-service.product-lookup.hedging.enabled=true")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertTrue(context.getBean(ProductLookupProperties.class).getHedging().isEnabled());
+                });
+    }
+
+    @Test
+    @DisplayName("PRODUCT LOOKUP PROPERTIES - COALESCING WITH HEDGING REFUSED")
+    void Bind_CoalescingAndHedgingEnabled_StartupFails() {
+        contextRunner.withPropertyValues("order-service.product-lookup.coalescing.enabled=true",
+                                         "order-service.product-lookup.hedging.enabled=true")
+                .run(context -> {
+                    assertNotNull(context.getStartupFailure());
+                    assertTrue(NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure()).getMessage()
+                                       .contains("must not be enabled together"));
+                });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(ProductLookupProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,92 @@
+package com.microservices.orderservice.controller.aop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.config.ControllerLoggingProperties;
+import com.microservices.orderservice.controller.OrderController;
+import com.microservices.orderservice.controller.impl.OrderControllerImpl;
+import com.microservices.orderservice.exception.ErrorCatalogue;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.OrderService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.GET_ORDER_BY_ID_NOT_FOUND;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoggingAspectTest {
+    private final OrderService orderService = mock(OrderService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderController orderController = proxy(new OrderControllerImpl(
+            orderService, new ObjectMapper(), new TaskExecutorAdapter(new SyncTaskExecutor()), null, null, null));
+
+    @Test
+    @DisplayName("TRACK TIME - SUCCESS")
+    void TrackTime_MethodReturns_SuccessTimerRecorded() {
+        when(orderService.getOrderById(ORDER_ID_ONE)).thenReturn(expectedOrderDto);
+
+        orderController.getOrderById(ORDER_ID_ONE);
+        orderController.getOrderById(ORDER_ID_ONE);
+
+        Timer timer = timer("getOrderById", "SUCCESS");
+        assertEquals(2, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    @DisplayName("TRACK TIME - EXCEPTION")
+    void TrackTime_MethodThrows_ErrorTimerRecorded() {
+        when(orderService.getOrderById(INVALID_ORDER_ID))
+                .thenThrow(new OrderServiceException(GET_ORDER_BY_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        assertThrows(OrderServiceException.class, () -> orderController.getOrderById(INVALID_ORDER_ID));
+
+        assertEquals(1, timer("getOrderById", "ERROR").count());
+        assertEquals(0, timer("getOrderById", "SUCCESS").count());
+    }
+
+    @Test
+    @DisplayName("TRACK TIME - COMPLETABLE FUTURE")
+    void TrackTime_FutureCompletes_TimerRecordedOnCompletion() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        OrderController asyncController = proxy(new OrderControllerImpl(orderService, new ObjectMapper(),
+                new TaskExecutorAdapter(task -> future.whenComplete((value, e) -> task.run())), null, null, null));
+        when(orderService.createOrder(expectedOrderDto)).thenReturn(expectedOrderDto);
+
+        CompletableFuture<?> response = asyncController.createOrder(expectedOrderDto, null);
+
+        assertEquals(0, timer("createOrder", "SUCCESS").count());
+        future.complete(null);
+        assertTrue(response.isDone());
+        assertEquals(1, timer("createOrder", "SUCCESS").count());
+    }
+
+    private OrderController proxy(OrderControllerImpl target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new ErrorCatalogue(), meterRegistry,
+                                                 new ControllerLoggingProperties()));
+        return proxyFactory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome) {
+        Timer timer = meterRegistry.find(LoggingAspect.TIMER_NAME)
+                .tag("class", "OrderControllerImpl")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+        assertNotNull(timer);
+        return timer;
+    }
+}
@@ -1,9 +1,14 @@
 package com.microservices.orderservice.controller.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.microservices.orderservice.controller.OrderController;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto;
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
 import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.dto.OrderPageDto;
 import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.ConcurrencyLimiter;
 import com.microservices.orderservice.service.impl.OrderServiceImpl;
 import com.microservices.orderservice.utility.ErrorMessageConstant;
 import org.junit.jupiter.api.DisplayName;
@@ -15,14 +20,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.RequestBuilder;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.microservices.orderservice.utility.ErrorCodeConstant.*;
 import static com.microservices.orderservice.utility.ExceptionConstant.*;
@@ -31,6 +42,7 @@ import static com.microservices.orderservice.utility.UrlConstant.GENERIC_ORDERS_
 import static com.microservices.orderservice.utility.UrlConstant.SPECIFIC_ORDER_URL;
 import static com.microservices.orderservice.utility.ValidationMessageConstant.*;
 import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,6 +53,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class OrderControllerImplTest {
     @MockBean
     private OrderServiceImpl orderService;
+    @SpyBean
+    private ConcurrencyLimiter createOrderConcurrencyLimiter;
+    @SpyBean(name = "orderStreamExecutor")
+    private ThreadPoolTaskExecutor orderStreamExecutor;
     @Autowired
     private MockMvc mockMvc;
     @Autowired
@@ -49,31 +65,80 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("GET ALL ORDERS - SUCCESS")
     void GetAllOrders_ReturnOrderList() throws Exception {
-        when(orderService.getAllOrders()).thenReturn(expectedOrderListDto);
+        when(orderService.getAllOrders(null, null)).thenReturn(new OrderPageDto(expectedOrderListDto, null));
 
         RequestBuilder requestBuilder = get(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON);
 
         MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
 
         String expectedResponse = mapperBuilder.build().writeValueAsString(expectedOrderListDto);
         String actualResponse = mvcResult.getResponse().getContentAsString();
 
         JSONAssert.assertEquals(expectedResponse, actualResponse, false);
-        verify(orderService, times(1)).getAllOrders();
+        verify(orderService, times(1)).getAllOrders(null, null);
     }
+
+    @Test
+    @DisplayName("GET ALL ORDERS - NEXT PAGE LINK")
+    void GetAllOrders_MoreOrdersAvailable_ReturnNextPageLink() throws Exception {
+        when(orderService.getAllOrders(null, 1)).thenReturn(new OrderPageDto(List.of(orderDtoOne), ORDER_ID_ONE));
+
+        RequestBuilder requestBuilder = get(GENERIC_ORDERS_URL + "?size=1").accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/orders?size=1&afterOrderId=" + ORDER_ID_ONE + ">; rel=\"next\""))
+                .andExpect(jsonPath("$.length()").value(1));
+        verify(orderService, times(1)).getAllOrders(null, 1);
+    }
+
     @Test
     @DisplayName("GET ALL ORDERS - EMPTY ORDER LIST")
     void GetAllOrders_EmptyOrderList_ExceptionThrown() throws Exception {
         RequestBuilder requestBuilder = get(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON);
-        when(orderService.getAllOrders())
+        when(orderService.getAllOrders(null, null))
                 .thenThrow(new OrderServiceException(GET_ALL_ORDERS_NO_CONTENT, HttpStatus.NO_CONTENT));
         mockMvc.perform(requestBuilder)
                 .andExpect(status().isNoContent())
                 .andExpect(jsonPath("$.statusCode").value(GET_ALL_ORDERS_ERROR_CODE))
                 .andExpect(jsonPath("$.message").value(ErrorMessageConstant.GET_ALL_ORDERS_ERROR_MESSAGE))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
-        verify(orderService, times(1)).getAllOrders();
+        verify(orderService, times(1)).getAllOrders(null, null);
+    }
+
+    @Test
+    @DisplayName("STREAM ALL ORDERS - SUCCESS")
+    @SuppressWarnings("unchecked")
+    void StreamAllOrders_ReturnNewlineDelimitedOrders() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderDto> consumer = invocation.getArgument(0);
+            expectedOrderListDto.forEach(consumer);
+            return null;
+        }).when(orderService).streamAllOrders(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(GENERIC_ORDERS_URL + "/stream"))
+                .andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertEquals(expectedOrderListDto.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JSONAssert.assertEquals(mapperBuilder.build().writeValueAsString(expectedOrderListDto.get(i)), lines[i], false);
+        }
+    }
+
+    @Test
+    @DisplayName("STREAM ALL ORDERS - ALL STREAMS IN USE")
+    void StreamAllOrders_ExecutorFull_ReturnServiceUnavailable() throws Exception {
+        doThrow(new TaskRejectedException("full")).when(orderStreamExecutor).execute(any(Runnable.class));
+
+        mockMvc.perform(get(GENERIC_ORDERS_URL + "/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.statusCode").value(STREAM_ALL_ORDERS_REJECTED_ERROR_CODE));
+        verify(orderService, never()).streamAllOrders(any());
     }
 
     @Test
@@ -87,7 +152,8 @@ class OrderControllerImplTest {
 
         when(orderService.createOrder(orderDto)).thenReturn(expectedOrderDto);
 
-        MvcResult mvcResult = mockMvc.perform(requestBuilder).andExpect(status().isCreated())
+        MvcResult asyncResult = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult)).andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
 
         String actualResponse = mvcResult.getResponse().getContentAsString();
@@ -96,6 +162,41 @@ class OrderControllerImplTest {
         verify(orderService, times(1)).createOrder(any(OrderDto.class));
     }
 
+    @Test
+    @DisplayName("CREATE ORDER - IDEMPOTENCY KEY REPLAYED")
+    void CreateOrder_SameIdempotencyKey_OrderCreatedOnce() throws Exception {
+        String expectedResponse = mapperBuilder.build().writeValueAsString(orderDto);
+        when(orderService.createOrder(orderDto)).thenReturn(expectedOrderDto);
+
+        for (int i = 0; i < 2; i++) {
+            RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, "create-order-replayed")
+                    .content(expectedResponse)
+                    .contentType(MediaType.APPLICATION_JSON);
+            MvcResult asyncResult = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+            MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult)).andExpect(status().isCreated())
+                    .andReturn();
+            JSONAssert.assertEquals(expectedResponse, mvcResult.getResponse().getContentAsString(), false);
+        }
+
+        verify(orderService, times(1)).createOrder(any(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("CREATE ORDER - CONCURRENCY LIMIT REACHED")
+    void CreateOrder_ConcurrencyLimitReached_TooManyRequests() throws Exception {
+        doReturn(Optional.empty()).when(createOrderConcurrencyLimiter).tryAcquire();
+
+        RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
+                .content(mapperBuilder.build().writeValueAsString(orderDto))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.statusCode").value(CREATE_ORDER_OVERLOADED_ERROR_CODE));
+        verify(orderService, never()).createOrder(any(OrderDto.class));
+    }
+
     @Test
     @DisplayName("VALIDATE ORDER - ORDER LINE NULL")
     void ValidateOrder_OrderLineNull_ReturnBadRequest() throws Exception {
@@ -130,7 +231,7 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("VALIDATE ORDER - PRODUCT ID NULL")
     void ValidateOrder_ProductIdNull_ReturnBadRequest() throws Exception {
-        OrderLineDto orderLineDto = new OrderLineDto(0L,null, 1, null);
+        OrderLineDto orderLineDto = new OrderLineDto(0L,null, 1, null, null, null);
         OrderDto orderDto = new OrderDto(0, null, null, 0, List.of(orderLineDto));
         RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
                 .content(mapperBuilder.build().writeValueAsString(orderDto))
@@ -146,7 +247,7 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("VALIDATE ORDER - PRODUCT ID NON POSITIVE")
     void ValidateOrder_ProductIdNonPositive_ReturnBadRequest() throws Exception {
-        OrderLineDto orderLineDto = new OrderLineDto(0L,-1L, 1, null);
+        OrderLineDto orderLineDto = new OrderLineDto(0L,-1L, 1, null, null, null);
         OrderDto orderDto = new OrderDto(0, null, null, 0, List.of(orderLineDto));
         RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
                 .content(mapperBuilder.build().writeValueAsString(orderDto))
@@ -162,7 +263,7 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("VALIDATE ORDER - QUANTITY NULL")
     void ValidateOrder_QuantityNull_ReturnBadRequest() throws Exception {
-        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, null, null);
+        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, null, null, null, null);
         OrderDto orderDto = new OrderDto(0, null, null, 0, List.of(orderLineDto));
         RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
                 .content(mapperBuilder.build().writeValueAsString(orderDto))
@@ -178,7 +279,7 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("VALIDATE ORDER - QUANTITY NON POSITIVE")
     void ValidateOrder_QuantityNonPositive_ReturnBadRequest() throws Exception {
-        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, -1, null);
+        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, -1, null, null, null);
         OrderDto orderDto = new OrderDto(0, null, null, 0, List.of(orderLineDto));
         RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
                 .content(mapperBuilder.build().writeValueAsString(orderDto))
@@ -194,7 +295,7 @@ class OrderControllerImplTest {
     @Test
     @DisplayName("VALIDATE ORDER - QUANTITY MAX VALUE")
     void ValidateOrder_QuantityMaxValue_ReturnBadRequest() throws Exception {
-        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, 1001, null);
+        OrderLineDto orderLineDto = new OrderLineDto(0L,1L, 1001, null, null, null);
         OrderDto orderDto = new OrderDto(0, null, null, 0, List.of(orderLineDto));
         RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL).accept(MediaType.APPLICATION_JSON)
                 .content(mapperBuilder.build().writeValueAsString(orderDto))
@@ -207,6 +308,58 @@ class OrderControllerImplTest {
                 .andReturn();
     }
 
+    @Test
+    @DisplayName("CREATE ORDERS - SUCCESS")
+    void CreateOrders_ReturnBatchResult() throws Exception {
+        OrderBatchResultDto orderBatchResultDto = new OrderBatchResultDto(1, 1, List.of(
+                new OrderBatchItemResultDto(0, OrderBatchItemResultDto.Status.CREATED, expectedOrderDto, null),
+                new OrderBatchItemResultDto(1, OrderBatchItemResultDto.Status.INVALID, null, List.of())));
+        when(orderService.createOrders(anyList())).thenReturn(orderBatchResultDto);
+
+        RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL + "/batch").accept(MediaType.APPLICATION_JSON)
+                .content(mapperBuilder.build().writeValueAsString(List.of(orderDto, new OrderDto())))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].orderDto.orderId").value(expectedOrderDto.getOrderId()))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].orderDto").doesNotExist());
+        verify(orderService, times(1)).createOrders(argThat(orderDtoList -> orderDtoList.size() == 2));
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - INVALID BATCH SIZE")
+    void CreateOrders_InvalidBatchSize_ExceptionThrown() throws Exception {
+        when(orderService.createOrders(anyList()))
+                .thenThrow(new OrderServiceException(CREATE_ORDERS_INVALID_BATCH_SIZE, HttpStatus.BAD_REQUEST));
+
+        RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL + "/batch").accept(MediaType.APPLICATION_JSON)
+                .content("[]")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode").value(CREATE_ORDERS_INVALID_BATCH_SIZE_ERROR_CODE))
+                .andExpect(jsonPath("$.message").value(ErrorMessageConstant.CREATE_ORDERS_INVALID_BATCH_SIZE_ERROR_MESSAGE));
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - CONCURRENCY LIMIT REACHED")
+    void CreateOrders_ConcurrencyLimitReached_TooManyRequests() throws Exception {
+        doReturn(Optional.empty()).when(createOrderConcurrencyLimiter).tryAcquire();
+
+        RequestBuilder requestBuilder = post(GENERIC_ORDERS_URL + "/batch").accept(MediaType.APPLICATION_JSON)
+                .content(mapperBuilder.build().writeValueAsString(List.of(orderDto)))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.statusCode").value(CREATE_ORDERS_OVERLOADED_ERROR_CODE));
+        verify(orderService, never()).createOrders(anyList());
+    }
+
     @Test
     @DisplayName("GET ORDER BY ID - SUCCESS")
     void GetOrderById_ReturnFetchedOrder() throws Exception {
@@ -310,9 +463,12 @@ class OrderControllerImplTest {
         RequestBuilder requestBuilder = getRequestBuilderForMethod(methodName);
         when(invokeMethodWithException(methodName)).thenThrow(new RuntimeException("Some exception occurred."));
 
-        mockMvc.perform(requestBuilder)
-                .andExpect(status().isInternalServerError())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON)).andReturn();
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andReturn();
+        if (mvcResult.getRequest().isAsyncStarted()) {
+            mvcResult = mockMvc.perform(asyncDispatch(mvcResult)).andReturn();
+        }
+        status().isInternalServerError().match(mvcResult);
+        content().contentType(MediaType.APPLICATION_JSON).match(mvcResult);
         verifyProductServiceMethodCalledOnce(methodName);
     }
 
@@ -330,7 +486,7 @@ class OrderControllerImplTest {
 
     private Exception invokeMethodWithException(String methodName) {
         switch (methodName) {
-            case "getAllOrders" -> orderService.getAllOrders();
+            case "getAllOrders" -> orderService.getAllOrders(null, null);
             case "createOrder" -> orderService.createOrder(orderDto);
             case "getOrderById" -> orderService.getOrderById(ORDER_ID_ONE);
             case "deleteOrderById" -> orderService.deleteOrderById(ORDER_ID_ONE);
@@ -341,7 +497,7 @@ class OrderControllerImplTest {
 
     private void verifyProductServiceMethodCalledOnce(String methodName) {
         switch (methodName) {
-            case "getAllOrders" -> verify(orderService, times(1)).getAllOrders();
+            case "getAllOrders" -> verify(orderService, times(1)).getAllOrders(null, null);
             case "createOrder" -> verify(orderService, times(1)).createOrder(any(OrderDto.class));
             case "getOrderById" -> verify(orderService, times(1)).getOrderById(anyLong());
             case "deleteOrderById" -> verify(orderService, times(1)).deleteOrderById(anyLong());
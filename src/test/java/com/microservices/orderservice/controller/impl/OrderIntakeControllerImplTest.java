@@ -0,0 +1,74 @@
+package com.microservices.orderservice.controller.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.impl.OrderIntakeServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static com.microservices.orderservice.utility.ErrorCodeConstant.GET_ORDER_INTAKE_ERROR_CODE;
+import static com.microservices.orderservice.utility.ExceptionConstant.GET_ORDER_INTAKE_NOT_FOUND;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderIntakeControllerImplTest {
+    private static final long INTAKE_ID = 51L;
+
+    @MockBean
+    private OrderIntakeServiceImpl orderIntakeService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("ORDER INTAKE - ORDER ACCEPTED")
+    void SubmitOrder_ValidOrder_Accepted() throws Exception {
+        when(orderIntakeService.submitOrder(any())).thenReturn(
+                new OrderIntakeDto(INTAKE_ID, OrderIntakeStatus.PENDING, null, null, LocalDateTime.now(), null));
+
+        mockMvc.perform(post("/orders/intake").contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(orderDtoOne)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/orders/intake/" + INTAKE_ID))
+                .andExpect(jsonPath("$.intakeId").value(INTAKE_ID))
+                .andExpect(jsonPath("$.status").value(OrderIntakeStatus.PENDING.name()));
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - INVALID ORDER REJECTED")
+    void SubmitOrder_InvalidOrder_BadRequest() throws Exception {
+        mockMvc.perform(post("/orders/intake").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderIntakeService, never()).submitOrder(any());
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - INTAKE NOT FOUND")
+    void GetOrderIntake_UnknownIntake_NotFound() throws Exception {
+        when(orderIntakeService.getOrderIntake(INTAKE_ID))
+                .thenThrow(new OrderServiceException(GET_ORDER_INTAKE_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/orders/intake/" + INTAKE_ID).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.statusCode").value(GET_ORDER_INTAKE_ERROR_CODE));
+    }
+}
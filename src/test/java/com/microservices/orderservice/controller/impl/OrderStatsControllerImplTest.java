@@ -0,0 +1,73 @@
+package com.microservices.orderservice.controller.impl;
+
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.impl.OrderStatsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.microservices.orderservice.utility.ErrorCodeConstant.ORDER_STATS_INVALID_RANGE_ERROR_CODE;
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_STATS_INVALID_RANGE;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderStatsControllerImplTest {
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 7);
+
+    @MockBean
+    private OrderStatsServiceImpl orderStatsService;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("ORDER STATS - DAILY STATS RETURNED")
+    void GetDailyOrderStats_ValidPeriod_ReturnStats() throws Exception {
+        when(orderStatsService.getDailyOrderStats(FROM, TO)).thenReturn(List.of(new DailyOrderStatsDto(FROM, 3, 150050L)));
+
+        mockMvc.perform(get("/orders/stats/daily?from=2026-10-01&to=2026-10-07").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2026-10-01"))
+                .andExpect(jsonPath("$[0].orderCount").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(1500.50));
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - TOP PRODUCTS RETURNED")
+    void GetTopProducts_ValidPeriod_ReturnProducts() throws Exception {
+        when(orderStatsService.getTopProducts(FROM, TO, 5))
+                .thenReturn(List.of(new ProductSalesDto(7L, "Product 7", 12, 12000L)));
+
+        mockMvc.perform(get("/orders/stats/top-products?from=2026-10-01&to=2026-10-07&limit=5")
+                                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value(7))
+                .andExpect(jsonPath("$[0].quantity").value(12))
+                .andExpect(jsonPath("$[0].revenue").value(120.0));
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - INVALID PERIOD")
+    void GetDailyOrderStats_InvalidPeriod_BadRequest() throws Exception {
+        when(orderStatsService.getDailyOrderStats(TO, FROM))
+                .thenThrow(new OrderServiceException(ORDER_STATS_INVALID_RANGE, HttpStatus.BAD_REQUEST));
+
+        mockMvc.perform(get("/orders/stats/daily?from=2026-10-07&to=2026-10-01").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode").value(ORDER_STATS_INVALID_RANGE_ERROR_CODE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.microservices.orderservice.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.jmx.JmxEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.endpoint.EndpointsSupplier;
+import org.springframework.boot.actuate.endpoint.ExposableEndpoint;
+import org.springframework.boot.actuate.endpoint.Operation;
+import org.springframework.boot.actuate.endpoint.OperationType;
+import org.springframework.boot.actuate.endpoint.jmx.JmxEndpointsSupplier;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointsSupplier;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorCatalogueEndpointTest {
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(EndpointAutoConfiguration.class,
+                                                     WebEndpointAutoConfiguration.class, JmxAutoConfiguration.class,
+                                                     JmxEndpointAutoConfiguration.class))
+            .withBean(ErrorCatalogue.class)
+            .withUserConfiguration(ErrorCatalogueEndpoint.class, ErrorCatalogueJmxExtension.class)
+            .withPropertyValues("spring.jmx.enabled=true", "spring.jmx.unique-names=true",
+                                "management.endpoints.web.exposure.include=errorcatalogue",
+                                "management.endpoints.jmx.exposure.include=errorcatalogue");
+
+    @Test
+    @DisplayName("ERROR CATALOGUE ENDPOINT - READ ONLY OVER HTTP")
+    void Discover_WebEndpoint_ReadOperationOnly() {
+        contextRunner.run(context -> assertEquals(Set.of(OperationType.READ),
+                                                  operationTypes(context.getBean(WebEndpointsSupplier.class))));
+    }
+
+    @Test
+    @DisplayName("ERROR CATALOGUE ENDPOINT - RELOAD OVER JMX")
+    void Discover_JmxEndpoint_ReadAndWriteOperations() {
+        contextRunner.run(context -> assertEquals(Set.of(OperationType.READ, OperationType.WRITE),
+                                                  operationTypes(context.getBean(JmxEndpointsSupplier.class))));
+    }
+
+    private static Set<OperationType> operationTypes(EndpointsSupplier<? extends ExposableEndpoint<?>> supplier) {
+        return supplier.getEndpoints().stream()
+                .filter(endpoint -> "errorcatalogue".equals(endpoint.getEndpointId().toString()))
+                .flatMap(endpoint -> endpoint.getOperations().stream())
+                .map(Operation::getType)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,55 @@
+package com.microservices.orderservice.exception;
+
+import com.microservices.orderservice.dto.ErrorDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static com.microservices.orderservice.utility.ErrorCodeConstant.GET_ORDER_BY_ID_ERROR_CODE;
+import static com.microservices.orderservice.utility.ErrorMessageConstant.GET_ORDER_BY_ID_ERROR_MESSAGE;
+import static com.microservices.orderservice.utility.ExceptionConstant.GET_ORDER_BY_ID_NOT_FOUND;
+import static com.microservices.orderservice.utility.ValidationConstant.ORDER_NOT_NULL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorCatalogueTest {
+    private final ErrorCatalogue errorCatalogue = new ErrorCatalogue();
+
+    @Test
+    @DisplayName("GET ERROR DTO - SUCCESS")
+    void GetErrorDto_KnownKey_ReturnCodeAndMessage() {
+        ErrorDto first = errorCatalogue.getErrorDto(GET_ORDER_BY_ID_NOT_FOUND);
+        ErrorDto second = errorCatalogue.getErrorDto(GET_ORDER_BY_ID_NOT_FOUND);
+
+        assertEquals(GET_ORDER_BY_ID_ERROR_CODE, first.getStatusCode());
+        assertEquals(GET_ORDER_BY_ID_ERROR_MESSAGE, first.getMessage());
+        assertNotNull(first.getTimestamp());
+        assertNotSame(first, second);
+        assertNull(errorCatalogue.getErrorDtos().get(GET_ORDER_BY_ID_NOT_FOUND).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("GET ERROR DTO - UNKNOWN KEY")
+    void GetErrorDto_UnknownKey_ReturnInternalServerError() {
+        ErrorDto errorDto = errorCatalogue.getErrorDto("error.unknown");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), errorDto.getStatusCode());
+        assertEquals("error.unknown", errorDto.getMessage());
+    }
+
+    @Test
+    @DisplayName("GET MESSAGE - SUCCESS")
+    void GetMessage_ValidationKey_ReturnMessage() {
+        assertEquals("Order must not be null.", errorCatalogue.getMessage(ORDER_NOT_NULL));
+        assertEquals("validation.unknown", errorCatalogue.getMessage("validation.unknown"));
+    }
+
+    @Test
+    @DisplayName("RELOAD - SUCCESS")
+    void Reload_ReturnErrorCount() {
+        int errorCount = errorCatalogue.reload();
+
+        assertEquals(errorCatalogue.getErrorDtos().size(), errorCount);
+        assertEquals(GET_ORDER_BY_ID_ERROR_CODE,
+                     errorCatalogue.getErrorDto(GET_ORDER_BY_ID_NOT_FOUND).getStatusCode());
+    }
+}
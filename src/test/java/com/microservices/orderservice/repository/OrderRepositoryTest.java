@@ -0,0 +1,227 @@
+package com.microservices.orderservice.repository;
+
+import com.microservices.orderservice.dto.DailyOrderStatsDto;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.ProductSalesDto;
+import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.entity.OrderLine;
+import com.microservices.orderservice.service.mapper.OrderMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                          "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop",
+                          "spring.jpa.properties.hibernate.generate_statistics=true"})
+class OrderRepositoryTest {
+    private static final int ORDER_COUNT = 5;
+    private static final int ORDER_LINES_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+    private Statistics statistics;
+    private Long firstOrderId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order savedOrder = testEntityManager.persist(newOrder(ORDER_LINES_PER_ORDER));
+            if (firstOrderId == null) {
+                firstOrderId = savedOrder.getOrderId();
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("GET ALL ORDERS - PAGE MAPPED WITH CONSTANT NUMBER OF QUERIES")
+    void FindOrderPage_OrderLinesMapped_TwoQueries() {
+        List<Long> orderIdList = orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT));
+        List<OrderDto> orderDtoList = orderMapper.orderListToOrderDtoList(
+                orderRepository.findWithOrderLinesByOrderIdInOrderByOrderIdAsc(orderIdList));
+
+        assertEquals(ORDER_COUNT, orderDtoList.size());
+        orderDtoList.forEach(orderDto -> assertEquals(ORDER_LINES_PER_ORDER, orderDto.getOrderLineDtoList().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET ORDER BY ID - ORDER LINES LOADED IN SAME QUERY")
+    void FindWithOrderLinesByOrderId_OrderLinesMapped_OneQuery() {
+        OrderDto orderDto = orderMapper.orderToOrderDto(orderRepository.findWithOrderLinesByOrderId(firstOrderId).orElseThrow());
+
+        assertEquals(ORDER_LINES_PER_ORDER, orderDto.getOrderLineDtoList().size());
+        assertEquals("Product 1", orderDto.getOrderLineDtoList().get(0).getProductName());
+        assertEquals(1000L, orderDto.getOrderLineDtoList().get(0).getUnitPrice());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("STREAM ALL ORDERS - ORDER LINES LOADED IN SAME QUERY")
+    void StreamAllOrders_OrderLinesMapped_OneQuery() {
+        List<OrderDto> orderDtoList;
+        try (Stream<Order> orderStream = orderRepository.streamAllOrders()) {
+            orderDtoList = orderStream.map(orderMapper::orderToOrderDto).toList();
+        }
+
+        assertEquals(ORDER_COUNT, orderDtoList.size());
+        orderDtoList.forEach(orderDto -> assertEquals(ORDER_LINES_PER_ORDER, orderDto.getOrderLineDtoList().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("SAVE ORDER - ORDER LINES INSERTED IN ONE BATCH")
+    void Save_MultiLineOrder_InsertedInBatches() {
+        Order savedOrder = orderRepository.save(newOrder(10));
+        testEntityManager.flush();
+
+        assertEquals(10, savedOrder.getOrderLineList().stream().map(OrderLine::getOrderLineId).distinct().count());
+        assertEquals(11, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("DELETE ORDER BY ID - ORDER AND ORDER LINES DELETED IN TWO STATEMENTS")
+    void DeleteByOrderId_MultiLineOrder_TwoBulkStatements() {
+        assertEquals(ORDER_LINES_PER_ORDER, orderRepository.deleteOrderLinesByOrderId(firstOrderId));
+        assertEquals(1, orderRepository.deleteOrderByOrderId(firstOrderId));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(orderRepository.findWithOrderLinesByOrderId(firstOrderId).isEmpty());
+        assertEquals(ORDER_COUNT - 1, orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT)).size());
+    }
+
+    @Test
+    @DisplayName("SOFT DELETE ORDER BY ID - ORDER HIDDEN FROM QUERIES")
+    void SoftDeleteByOrderId_FlaggedOrder_ExcludedFromQueries() {
+        assertEquals(1, orderRepository.softDeleteByOrderId(firstOrderId, LocalDateTime.now()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(orderRepository.findWithOrderLinesByOrderId(firstOrderId).isEmpty());
+        assertFalse(orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT)).contains(firstOrderId));
+        try (Stream<Order> orderStream = orderRepository.streamAllOrders()) {
+            assertEquals(ORDER_COUNT - 1, orderStream.count());
+        }
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - ORDERS AND REVENUE AGGREGATED PER DAY")
+    void FindDailyOrderStats_OrdersOnTwoDays_OneRowPerDay() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        List<Long> orderIdList = orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT));
+        setCreatedDate(orderIdList.get(0), day.atTime(9, 0));
+        setCreatedDate(orderIdList.get(1), day.atTime(18, 30));
+        setCreatedDate(orderIdList.get(2), day.plusDays(1).atTime(12, 0));
+        setCreatedDate(orderIdList.get(3), day.plusDays(1).atTime(13, 0));
+        orderRepository.softDeleteByOrderId(orderIdList.get(3), LocalDateTime.now());
+        statistics.clear();
+
+        List<DailyOrderStatsDto> dailyOrderStatsDtoList = orderRepository.findDailyOrderStats(
+                day.atStartOfDay(), day.plusDays(7).atStartOfDay());
+
+        assertEquals(List.of(new DailyOrderStatsDto(day, 2, 6000L),
+                             new DailyOrderStatsDto(day.plusDays(1), 1, 3000L)), dailyOrderStatsDtoList);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - TOP PRODUCTS BY QUANTITY")
+    void FindTopProductSales_OrdersInPeriod_ProductsByQuantity() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        List<Long> orderIdList = orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT));
+        setCreatedDate(orderIdList.get(0), day.atTime(9, 0));
+        setCreatedDate(orderIdList.get(1), day.atTime(10, 0));
+        setCreatedDate(orderIdList.get(2), day.minusDays(1).atTime(10, 0));
+        statistics.clear();
+
+        List<ProductSalesDto> productSalesDtoList = orderRepository.findTopProductSales(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay(), Limit.of(2));
+
+        assertEquals(List.of(new ProductSalesDto(3L, "Product 3", 6, 6000L),
+                             new ProductSalesDto(2L, "Product 2", 4, 4000L)), productSalesDtoList);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - SOFT-DELETED ORDER EXCLUDED FROM BOTH REPORTS")
+    void OrderStats_SoftDeletedOrderInPeriod_ExcludedFromBothReports() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        List<Long> orderIdList = orderRepository.findOrderIdsAfter(0L, Limit.of(ORDER_COUNT));
+        setCreatedDate(orderIdList.get(0), day.atTime(9, 0));
+        setCreatedDate(orderIdList.get(1), day.atTime(10, 0));
+        orderRepository.softDeleteByOrderId(orderIdList.get(1), LocalDateTime.now());
+
+        List<DailyOrderStatsDto> dailyOrderStatsDtoList = orderRepository.findDailyOrderStats(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        List<ProductSalesDto> productSalesDtoList = orderRepository.findTopProductSales(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay(), Limit.of(ORDER_LINES_PER_ORDER));
+
+        assertEquals(List.of(new DailyOrderStatsDto(day, 1, 3000L)), dailyOrderStatsDtoList);
+        assertEquals(List.of(new ProductSalesDto(3L, "Product 3", 3, 3000L),
+                             new ProductSalesDto(2L, "Product 2", 2, 2000L),
+                             new ProductSalesDto(1L, "Product 1", 1, 1000L)), productSalesDtoList);
+    }
+
+    @Test
+    @DisplayName("ORDER TOTAL - CURRENCY UNITS KEPT FOR EARLIER VERSIONS")
+    void OrderTotal_EarlierVersionColumn_WrittenAndReadInCurrencyUnits() {
+        assertEquals(30.0, testEntityManager.getEntityManager()
+                .createNativeQuery("select total_price from order_tbl where order_id = :orderId", Double.class)
+                .setParameter("orderId", firstOrderId)
+                .getSingleResult());
+
+        testEntityManager.getEntityManager()
+                .createNativeQuery("update order_tbl set total_price_minor = null, total_price = 40.97 where order_id = :orderId")
+                .setParameter("orderId", firstOrderId)
+                .executeUpdate();
+        testEntityManager.clear();
+
+        assertEquals(4097L, orderRepository.findById(firstOrderId).orElseThrow().getTotalPrice());
+    }
+
+    private void setCreatedDate(long orderId, LocalDateTime createdDate) {
+        testEntityManager.find(Order.class, orderId).setCreatedDate(createdDate);
+        testEntityManager.flush();
+    }
+
+    private static Order newOrder(int orderLineCount) {
+        Order order = new Order();
+        order.setTotalPrice(1000L * orderLineCount);
+        List<OrderLine> orderLineList = new ArrayList<>();
+        for (int i = 0; i < orderLineCount; i++) {
+            OrderLine orderLine = new OrderLine();
+            orderLine.setProductId((long) i + 1);
+            orderLine.setQuantity(i + 1);
+            orderLine.setProductName("Product " + (i + 1));
+            orderLine.setUnitPrice(1000L);
+            orderLine.setOrder(order);
+            orderLineList.add(orderLine);
+        }
+        order.setOrderLineList(orderLineList);
+        return order;
+    }
+}
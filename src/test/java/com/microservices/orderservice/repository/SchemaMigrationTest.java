@@ -0,0 +1,125 @@
+package com.microservices.orderservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationTest {
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // The migrations are written for MySQL.
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()
+                                                 + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("SCHEMA MIGRATION - EMPTY DATABASE MIGRATED")
+    void Migrate_EmptyDatabase_SequencesStartAtOne() {
+        migrate(null);
+
+        assertEquals(50L, nextValue("order_seq"));
+        assertEquals(50L, nextValue("order_line_seq"));
+    }
+
+    @Test
+    @DisplayName("SCHEMA MIGRATION - SEQUENCES START PAST EXISTING IDS")
+    void Migrate_ExistingOrders_SequencesStartPastExistingIds() {
+        migrate("1");
+        jdbcTemplate.update("insert into order_tbl (order_id, total_price) values (1, 0), (7, 0), (120, 0)");
+        jdbcTemplate.update("insert into order_line (order_line_id, order_id, quantity) values (1, 1, 1), (9, 7, 1)");
+
+        migrate(null);
+
+        assertEquals(170L, nextValue("order_seq"));
+        assertEquals(59L, nextValue("order_line_seq"));
+        // An instance of an earlier version still has the database generate ids, far past the sequence.
+        jdbcTemplate.update("insert into order_tbl (order_id, total_price) values (121, 0)");
+        jdbcTemplate.update("insert into order_tbl (total_price) values (0)");
+        assertEquals(1_000_000_000_000L, jdbcTemplate.queryForObject("select max(order_id) from order_tbl", Long.class));
+    }
+
+    @Test
+    @DisplayName("SCHEMA MIGRATION - TOTALS COPIED TO MINOR UNITS")
+    void Migrate_ExistingOrders_TotalsCopiedToMinorUnits() {
+        migrate("2");
+        jdbcTemplate.update("insert into order_tbl (order_id, total_price) values (1, 40.97), (2, 0.1)");
+
+        migrate(null);
+
+        assertEquals(List.of(4097L, 10L),
+                     jdbcTemplate.queryForList("select total_price_minor from order_tbl order by order_id", Long.class));
+        // The currency units stay for earlier versions.
+        assertEquals(40.97, jdbcTemplate.queryForObject("select total_price from order_tbl where order_id = 1",
+                                                        Double.class));
+    }
+
+    @Test
+    @DisplayName("SCHEMA MIGRATION - RELEASED DATABASE BASELINED AND MIGRATED")
+    void Migrate_ReleasedDatabaseWithoutHistory_Migrated() {
+        jdbcTemplate.execute("""
+                create table order_tbl (total_price float(53) not null, created_date datetime(6),
+                                        modified_date datetime(6), order_id bigint not null auto_increment,
+                                        primary key (order_id))
+                """);
+        jdbcTemplate.execute("""
+                create table order_line (quantity integer not null, order_id bigint not null,
+                                         order_line_id bigint not null auto_increment, product_id bigint,
+                                         primary key (order_line_id),
+                                         foreign key (order_id) references order_tbl (order_id))
+                """);
+        jdbcTemplate.update("insert into order_tbl (total_price) values (40.97)");
+
+        migrate(null);
+
+        assertEquals(Map.of("total_price_minor", 4097L, "deleted", false),
+                     jdbcTemplate.queryForMap("select total_price_minor, deleted from order_tbl"));
+        assertEquals(51L, nextValue("order_seq"));
+    }
+
+    @Test
+    @DisplayName("SCHEMA MIGRATION - JSON COLUMNS HOLD A LARGE ORDER")
+    void Migrate_EmptyDatabase_JsonColumnsHoldLargeOrder() {
+        migrate(null);
+
+        jdbcTemplate.update("""
+                insert into outbox_event (event_id, occurred_date, order_id, event_type, payload)
+                values (1, current_timestamp, 1, 'ORDER_CREATED', ?)
+                """, "x".repeat(100_000));
+        jdbcTemplate.update("""
+                insert into order_intake (intake_id, attempts, submitted_date, version, status, payload, errors)
+                values (1, 0, current_timestamp, 0, 'INVALID', ?, ?)
+                """, "x".repeat(100_000), "x".repeat(100_000));
+
+        assertEquals(100_000, jdbcTemplate.queryForObject("select length(payload) from outbox_event", Integer.class));
+        assertEquals(100_000, jdbcTemplate.queryForObject("select length(errors) from order_intake", Integer.class));
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+              .dataSource(dataSource)
+              .table("order_service_schema_history")
+              .baselineOnMigrate(true)
+              .baselineVersion("0")
+              .target(target == null ? "latest" : target)
+              .load()
+              .migrate();
+    }
+
+    private long nextValue(String sequenceTable) {
+        return jdbcTemplate.queryForObject("select next_val from " + sequenceTable, Long.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ConcurrencyLimitProperties;
+import com.microservices.orderservice.service.ConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdConcurrencyLimiterTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AimdConcurrencyLimiter concurrencyLimiter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(6);
+        properties.setBackoffRatio(0.5);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        concurrencyLimiter = new AimdConcurrencyLimiter(properties, nanoTime::get, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("CONCURRENCY LIMIT - EXECUTIONS BEYOND LIMIT REJECTED")
+    void TryAcquire_LimitReached_Rejected() {
+        List<Permit> permits = acquire(4);
+
+        assertTrue(concurrencyLimiter.tryAcquire().isEmpty());
+        permits.get(0).onIgnore();
+        permits.get(0).onIgnore();
+        assertTrue(concurrencyLimiter.tryAcquire().isPresent());
+        assertTrue(concurrencyLimiter.tryAcquire().isEmpty());
+        assertEquals(4, concurrencyLimiter.getLimit());
+        assertEquals(2, meterRegistry.get("order.create.concurrency.rejected").counter().count());
+        assertEquals(4, meterRegistry.get("order.create.concurrency.inflight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("CONCURRENCY LIMIT - FAST EXECUTIONS RAISE LIMIT UP TO MAXIMUM")
+    void OnSuccess_FastBusyExecutions_LimitIncreased() {
+        acquire(4).forEach(Permit::onSuccess);
+        assertEquals(6, concurrencyLimiter.getLimit());
+
+        acquire(1).forEach(Permit::onSuccess);
+        assertEquals(6, concurrencyLimiter.getLimit());
+        assertEquals(6, meterRegistry.get("order.create.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    @DisplayName("CONCURRENCY LIMIT - SLOW OR DROPPED EXECUTIONS BACK OFF DOWN TO MINIMUM")
+    void OnSuccess_SlowExecutions_LimitDecreased() {
+        Permit slowPermit = acquire(1).get(0);
+        nanoTime.addAndGet(Duration.ofMillis(150).toNanos());
+        slowPermit.onSuccess();
+        assertEquals(2, concurrencyLimiter.getLimit());
+
+        acquire(1).forEach(Permit::onDropped);
+        assertEquals(2, concurrencyLimiter.getLimit());
+    }
+
+    private List<Permit> acquire(int count) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(concurrencyLimiter.tryAcquire().orElseThrow());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,116 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.service.ProductFetcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductFetcherTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+    private static final Duration NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    @Mock
+    private ProductFetcher delegate;
+    private final AtomicLong nanoTime = new AtomicLong();
+    private CachingProductFetcher cachingProductFetcher;
+
+    @BeforeEach
+    void setUp() {
+        cachingProductFetcher = new CachingProductFetcher(delegate, 100, TIME_TO_LIVE, REFRESH_AFTER,
+                                                          NEGATIVE_TIME_TO_LIVE, Runnable::run, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - CACHED PRODUCT SERVED WITHOUT REMOTE CALL")
+    void FetchProduct_CachedProduct_ServedFromCache() {
+        when(delegate.fetchProduct(PRODUCT_ID_ONE)).thenReturn(CompletableFuture.completedFuture(productDtoOne));
+
+        assertEquals(productDtoOne, cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+        assertEquals(productDtoOne, cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+
+        verify(delegate, times(1)).fetchProduct(PRODUCT_ID_ONE);
+        assertEquals(1, cachingProductFetcher.getCache().synchronous().stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - MISSING PRODUCT NEGATIVELY CACHED")
+    void FetchProduct_MissingProduct_NegativelyCached() {
+        when(delegate.fetchProduct(PRODUCT_ID_ONE)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+        assertNull(cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+        verify(delegate, times(1)).fetchProduct(PRODUCT_ID_ONE);
+
+        advance(NEGATIVE_TIME_TO_LIVE.plusSeconds(1));
+        assertNull(cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+        verify(delegate, times(2)).fetchProduct(PRODUCT_ID_ONE);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - STALE PRODUCT SERVED WHILE REFRESHED")
+    void FetchProduct_StaleProduct_ServedWhileRefreshed() {
+        ProductDto repricedProductDto = new ProductDto(PRODUCT_ID_ONE, PRODUCT_NAME_ONE, PRODUCT_PRICE_ONE + 1);
+        CompletableFuture<ProductDto> refresh = new CompletableFuture<>();
+        when(delegate.fetchProduct(PRODUCT_ID_ONE))
+                .thenReturn(CompletableFuture.completedFuture(productDtoOne))
+                .thenReturn(refresh);
+
+        cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join();
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        assertEquals(productDtoOne, cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+        verify(delegate, times(2)).fetchProduct(PRODUCT_ID_ONE);
+
+        refresh.complete(repricedProductDto);
+        assertEquals(repricedProductDto, cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - EXPIRED PRODUCT RELOADED")
+    void FetchProduct_ExpiredProduct_Reloaded() {
+        ProductDto repricedProductDto = new ProductDto(PRODUCT_ID_ONE, PRODUCT_NAME_ONE, PRODUCT_PRICE_ONE + 1);
+        when(delegate.fetchProduct(PRODUCT_ID_ONE))
+                .thenReturn(CompletableFuture.completedFuture(productDtoOne))
+                .thenReturn(CompletableFuture.completedFuture(repricedProductDto));
+
+        cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join();
+        advance(TIME_TO_LIVE.plusSeconds(1));
+
+        assertEquals(repricedProductDto, cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - SHARED LOAD CANCELLED ONCE EVERY CALLER CANCELLED")
+    void FetchProduct_EveryCallerCancelled_LoadCancelled() {
+        CompletableFuture<ProductDto> lookup = new CompletableFuture<>();
+        when(delegate.fetchProduct(PRODUCT_ID_ONE)).thenReturn(lookup);
+
+        CompletableFuture<ProductDto> first = cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        first.cancel(true);
+        assertFalse(lookup.isCancelled());
+
+        second.cancel(true);
+        assertTrue(lookup.isCancelled());
+        verify(delegate, times(1)).fetchProduct(PRODUCT_ID_ONE);
+        assertEquals(0, cachingProductFetcher.getCache().synchronous().estimatedSize());
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,94 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.IDEMPOTENCY_KEY_REUSED;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineIdempotencyStoreTest {
+    private static final String IDEMPOTENCY_KEY = "3f1c2a9e-order";
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger creationCount = new AtomicInteger();
+    private final CaffeineIdempotencyStore idempotencyStore =
+            new CaffeineIdempotencyStore(100, RETENTION, nanoTime::get);
+
+    @Test
+    @DisplayName("SUBMIT - DUPLICATE WHILE IN FLIGHT")
+    void Submit_DuplicateWhileInFlight_OriginalResultReturned() {
+        CompletableFuture<OrderDto> creation = new CompletableFuture<>();
+        OrderDto duplicateOrderDto = copy(orderDto);
+        duplicateOrderDto.setTotalPrice(0);
+
+        CompletableFuture<OrderDto> original = idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto, () -> create(creation));
+        CompletableFuture<OrderDto> duplicate = idempotencyStore.submit(IDEMPOTENCY_KEY, duplicateOrderDto,
+                                                                        () -> create(new CompletableFuture<>()));
+        creation.complete(expectedOrderDto);
+
+        assertSame(expectedOrderDto, original.join());
+        assertSame(expectedOrderDto, duplicate.join());
+        assertEquals(1, creationCount.get());
+    }
+
+    @Test
+    @DisplayName("SUBMIT - FAILED CREATION FORGOTTEN")
+    void Submit_CreationFailed_KeySubmittedAgain() {
+        CompletableFuture<OrderDto> failed = idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto,
+                () -> create(CompletableFuture.failedFuture(new IllegalStateException("product-service down"))));
+
+        assertThrows(CompletionException.class, failed::join);
+        CompletableFuture<OrderDto> retried = idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto,
+                () -> create(CompletableFuture.completedFuture(expectedOrderDto)));
+        assertSame(expectedOrderDto, retried.join());
+        assertEquals(2, creationCount.get());
+    }
+
+    @Test
+    @DisplayName("SUBMIT - KEY REUSED FOR DIFFERENT ORDER")
+    void Submit_KeyReusedForDifferentOrder_ExceptionThrown() {
+        idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto, () -> create(CompletableFuture.completedFuture(orderDto)));
+
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                () -> idempotencyStore.submit(IDEMPOTENCY_KEY, orderDtoTwo,
+                        () -> create(CompletableFuture.completedFuture(orderDtoTwo))));
+        assertEquals(IDEMPOTENCY_KEY_REUSED, exception.getMessage());
+        assertEquals(1, creationCount.get());
+    }
+
+    @Test
+    @DisplayName("SUBMIT - KEY EXPIRED AND CANCELLATION ISOLATED")
+    void Submit_RetentionElapsedAndCallerCancelled_CreationKeptAndKeyForgotten() {
+        CompletableFuture<OrderDto> creation = new CompletableFuture<>();
+        idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto, () -> create(creation)).cancel(true);
+
+        assertFalse(creation.isCancelled());
+        creation.complete(expectedOrderDto);
+        assertSame(expectedOrderDto, idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto,
+                () -> create(new CompletableFuture<>())).join());
+
+        nanoTime.addAndGet(RETENTION.plusSeconds(1).toNanos());
+        idempotencyStore.submit(IDEMPOTENCY_KEY, orderDto, () -> create(CompletableFuture.completedFuture(orderDto)));
+        assertEquals(2, creationCount.get());
+    }
+
+    private CompletableFuture<OrderDto> create(CompletableFuture<OrderDto> result) {
+        creationCount.incrementAndGet();
+        return result;
+    }
+
+    private static OrderDto copy(OrderDto orderDto) {
+        return new OrderDto(orderDto.getOrderId(), orderDto.getCreatedDate(), orderDto.getModifiedDate(),
+                            orderDto.getTotalPrice(), orderDto.getOrderLineDtoList());
+    }
+}
@@ -0,0 +1,112 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingProductFetcherTest {
+    @Mock
+    private ProductServiceProxy productServiceProxy;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private CoalescingProductFetcher coalescingProductFetcher;
+
+    @AfterEach
+    void tearDown() {
+        coalescingProductFetcher.destroy();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - LOOKUPS WITHIN WINDOW COALESCED")
+    void FetchProduct_LookupsWithinWindow_Coalesced() {
+        coalescingProductFetcher = new CoalescingProductFetcher(productServiceProxy, executor, Duration.ofMillis(200), 100);
+        when(productServiceProxy.getProductsByIds(anyCollection()))
+                .thenReturn(ResponseEntity.ok(List.of(productDtoOne, productDtoTwo)));
+
+        CompletableFuture<ProductDto> first = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = coalescingProductFetcher.fetchProduct(PRODUCT_ID_TWO);
+        CompletableFuture<ProductDto> duplicate = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+
+        assertEquals(productDtoOne, first.join());
+        assertEquals(productDtoTwo, second.join());
+        assertEquals(productDtoOne, duplicate.join());
+        verify(productServiceProxy, times(1)).getProductsByIds(Set.of(PRODUCT_ID_ONE, PRODUCT_ID_TWO));
+        verify(productServiceProxy, never()).getProductById(anyLong());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - FULL BATCH DISPATCHED BEFORE WINDOW ELAPSES")
+    void FetchProduct_FullBatch_DispatchedImmediately() {
+        coalescingProductFetcher = new CoalescingProductFetcher(productServiceProxy, executor, Duration.ofMinutes(1), 2);
+        when(productServiceProxy.getProductsByIds(anyCollection()))
+                .thenReturn(ResponseEntity.ok(List.of(productDtoOne, productDtoTwo)));
+
+        CompletableFuture<ProductDto> first = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = coalescingProductFetcher.fetchProduct(PRODUCT_ID_TWO);
+
+        assertEquals(productDtoOne, first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(productDtoTwo, second.join());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - MISSING PRODUCT COMPLETED WITH NULL")
+    void FetchProduct_MissingProduct_CompletedWithNull() {
+        coalescingProductFetcher = new CoalescingProductFetcher(productServiceProxy, executor, Duration.ofMillis(10), 100);
+        when(productServiceProxy.getProductsByIds(anyCollection())).thenReturn(ResponseEntity.ok(List.of(productDtoOne)));
+
+        CompletableFuture<ProductDto> first = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = coalescingProductFetcher.fetchProduct(PRODUCT_ID_TWO);
+
+        assertEquals(productDtoOne, first.join());
+        assertNull(second.join());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - BATCH FAILURE PROPAGATED TO ALL LOOKUPS")
+    void FetchProduct_BatchFailure_PropagatedToAllLookups() {
+        coalescingProductFetcher = new CoalescingProductFetcher(productServiceProxy, executor, Duration.ofMillis(10), 100);
+        when(productServiceProxy.getProductsByIds(anyCollection())).thenThrow(new IllegalStateException("down"));
+
+        CompletableFuture<ProductDto> first = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = coalescingProductFetcher.fetchProduct(PRODUCT_ID_TWO);
+
+        CompletionException exception = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - CANCELLED LOOKUP DOES NOT AFFECT OTHER CALLERS")
+    void FetchProduct_CancelledLookup_OtherCallersUnaffected() {
+        coalescingProductFetcher = new CoalescingProductFetcher(productServiceProxy, executor, Duration.ofMillis(50), 100);
+        when(productServiceProxy.getProductsByIds(anyCollection())).thenReturn(ResponseEntity.ok(List.of(productDtoOne)));
+
+        CompletableFuture<ProductDto> cancelled = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> other = coalescingProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        cancelled.cancel(true);
+
+        assertEquals(productDtoOne, other.join());
+        verify(productServiceProxy, times(1)).getProductsByIds(argThat((Collection<Long> ids) -> ids.size() == 1));
+    }
+}
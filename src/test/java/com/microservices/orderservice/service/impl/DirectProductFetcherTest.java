@@ -0,0 +1,87 @@
+package com.microservices.orderservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectProductFetcherTest {
+    private static final long UNKNOWN_PRODUCT_ID = 0L;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+    private DirectProductFetcher directProductFetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/products/", this::getProductById);
+        server.start();
+        HttpMessageConverters messageConverters = new HttpMessageConverters();
+        ProductServiceProxy productServiceProxy = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+                .target(ProductServiceProxy.class, "http://localhost:" + server.getAddress().getPort());
+        directProductFetcher = new DirectProductFetcher(productServiceProxy, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - KNOWN PRODUCT RESOLVED")
+    void FetchProduct_KnownProduct_ProductReturned() {
+        assertEquals("product 1", directProductFetcher.fetchProduct(1L).join().getProductName());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - UNKNOWN PRODUCT NEGATIVELY CACHED")
+    void FetchProduct_ProductNotFound_NullNegativelyCached() {
+        CachingProductFetcher cachingProductFetcher = new CachingProductFetcher(
+                directProductFetcher, 100, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(30),
+                Runnable::run, Ticker.systemTicker());
+
+        assertNull(cachingProductFetcher.fetchProduct(UNKNOWN_PRODUCT_ID).join());
+        assertNull(cachingProductFetcher.fetchProduct(UNKNOWN_PRODUCT_ID).join());
+
+        assertEquals(1, requestCount.get());
+    }
+
+    private void getProductById(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            String productId = exchange.getRequestURI().getPath().substring("/products/".length());
+            if (String.valueOf(UNKNOWN_PRODUCT_ID).equals(productId)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = ("{\"productId\":" + productId + ",\"productName\":\"product " + productId
+                    + "\",\"productPrice\":10.0}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ProductLookupProperties;
+import com.microservices.orderservice.dto.ProductDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HedgingProductFetcherTest {
+    private static final String SERVICE_ID = "PRODUCT-SERVICE";
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+    private final ProductLookupProperties.Hedging hedging = new ProductLookupProperties.Hedging();
+    private HttpServer slowServer;
+    private HttpServer fastServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slowServer = startServer("slow", Duration.ofMillis(500));
+        fastServer = startServer("fast", Duration.ZERO);
+        // The slow instance comes first, so that it receives the primary call of the first lookup.
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(List.of(instance(slowServer), instance(fastServer)));
+        hedging.setMinDelay(Duration.ofMillis(10));
+        hedging.setMaxDelay(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowServer.stop(0);
+        fastServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - SLOW CALL HEDGED ON NEXT INSTANCE")
+    void FetchProduct_SlowInstance_HedgeWins() {
+        long startTime = System.nanoTime();
+
+        ProductDto productDto = hedgingProductFetcher().fetchProduct(1L).join();
+
+        assertEquals("fast 1", productDto.getProductName());
+        assertTrue(System.nanoTime() - startTime < Duration.ofMillis(400).toNanos());
+        assertEquals(1, meterRegistry.get("order.product.hedges").tag("outcome", "sent").counter().count());
+        assertEquals(1, meterRegistry.get("order.product.hedges").tag("outcome", "won").counter().count());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - NO HEDGE WITHOUT BUDGET")
+    void FetchProduct_BudgetExhausted_HedgeSkipped() {
+        hedging.setBudgetRatio(0);
+        hedging.setBudgetBurst(0);
+
+        ProductDto productDto = hedgingProductFetcher().fetchProduct(1L).join();
+
+        assertEquals("slow 1", productDto.getProductName());
+        assertEquals(0, meterRegistry.get("order.product.hedges").tag("outcome", "sent").counter().count());
+        assertEquals(1, meterRegistry.get("order.product.hedges").tag("outcome", "skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - UNKNOWN PRODUCT RESOLVED TO NULL")
+    void FetchProduct_ProductNotFound_Null() {
+        assertNull(hedgingProductFetcher().fetchProduct(0L).join());
+    }
+
+    private HedgingProductFetcher hedgingProductFetcher() {
+        return new HedgingProductFetcher(discoveryClient, RestClient.create(), executor, hedging, meterRegistry);
+    }
+
+    private static DefaultServiceInstance instance(HttpServer server) {
+        int port = server.getAddress().getPort();
+        return new DefaultServiceInstance(SERVICE_ID + "-" + port, SERVICE_ID, "localhost", port, false);
+    }
+
+    private static HttpServer startServer(String name, Duration latency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/products/", exchange -> getProductById(exchange, name, latency));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static void getProductById(HttpExchange exchange, String name, Duration latency) throws IOException {
+        try (exchange) {
+            TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+            String productId = exchange.getRequestURI().getPath().substring("/products/".length());
+            if ("0".equals(productId)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = ("{\"productId\":" + productId + ",\"productName\":\"" + name + " " + productId
+                    + "\",\"productPrice\":10.0}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
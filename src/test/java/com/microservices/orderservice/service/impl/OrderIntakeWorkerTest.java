@@ -0,0 +1,182 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.config.OrderIntakeProperties;
+import com.microservices.orderservice.dto.ErrorDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto.Status;
+import com.microservices.orderservice.dto.OrderBatchResultDto;
+import com.microservices.orderservice.dto.OrderIntakeDto;
+import com.microservices.orderservice.dto.OrderIntakeStatus;
+import com.microservices.orderservice.entity.OrderIntake;
+import com.microservices.orderservice.exception.ErrorCatalogue;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.repository.OrderIntakeRepository;
+import com.microservices.orderservice.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.microservices.orderservice.utility.ErrorCodeConstant.ORDER_INTAKE_ATTEMPTS_EXHAUSTED_ERROR_CODE;
+import static com.microservices.orderservice.utility.ErrorCodeConstant.ORDER_INTAKE_FULL_ERROR_CODE;
+import static com.microservices.orderservice.utility.ErrorCodeConstant.PRODUCT_LOOKUP_TIMEOUT_ERROR_CODE;
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_INTAKE_FULL;
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_TIMEOUT;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                          "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+class OrderIntakeWorkerTest {
+
+    @Autowired
+    private OrderIntakeRepository orderIntakeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderIntakeProperties properties = new OrderIntakeProperties();
+    private OrderIntakeServiceImpl orderIntakeService;
+    private OrderIntakeWorker orderIntakeWorker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCapacity(2);
+        properties.setMaxAttempts(2);
+        orderIntakeService = new OrderIntakeServiceImpl(orderIntakeRepository, properties, objectMapper);
+        orderIntakeWorker = new OrderIntakeWorker(orderIntakeRepository, orderService, transactionTemplate,
+                                                  objectMapper, new ErrorCatalogue(), Runnable::run, properties,
+                                                  meterRegistry);
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - OUTCOME OF EVERY ORDER RECORDED")
+    void ProcessBatch_AcceptedOrders_OutcomesRecorded() {
+        OrderIntakeDto createdIntake = orderIntakeService.submitOrder(orderDtoOne);
+        OrderIntakeDto invalidIntake = orderIntakeService.submitOrder(orderDtoTwo);
+        ErrorDto errorDto = new ErrorDto(HttpStatus.BAD_REQUEST.value(), "Quantity must be positive.",
+                                         LocalDateTime.now());
+        when(orderService.createOrders(anyList())).thenReturn(new OrderBatchResultDto(1, 1, List.of(
+                new OrderBatchItemResultDto(0, Status.CREATED, orderDtoOne, null),
+                new OrderBatchItemResultDto(1, Status.INVALID, null, List.of(errorDto)))));
+
+        assertEquals(OrderIntakeStatus.PENDING, createdIntake.getStatus());
+        assertEquals(2, orderIntakeWorker.processBatch());
+
+        OrderIntakeDto completedIntake = orderIntakeService.getOrderIntake(createdIntake.getIntakeId());
+        assertEquals(OrderIntakeStatus.CREATED, completedIntake.getStatus());
+        assertEquals(ORDER_ID_ONE, completedIntake.getOrderId());
+        assertNotNull(completedIntake.getCompletedDate());
+        OrderIntakeDto rejectedIntake = orderIntakeService.getOrderIntake(invalidIntake.getIntakeId());
+        assertEquals(OrderIntakeStatus.INVALID, rejectedIntake.getStatus());
+        assertEquals(errorDto.getMessage(), rejectedIntake.getErrors().get(0).getMessage());
+        verify(orderService).createOrders(List.of(orderDtoOne, orderDtoTwo));
+        assertEquals(0, orderIntakeWorker.processBatch());
+        assertEquals(1, meterRegistry.get("order.intake.orders").tag("outcome", "created").counter().count());
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - FAILED BATCH RETRIED UNTIL OUT OF ATTEMPTS")
+    void ProcessBatch_CreationFails_RetriedThenFailed() {
+        OrderIntakeDto orderIntakeDto = orderIntakeService.submitOrder(orderDtoOne);
+        when(orderService.createOrders(anyList()))
+                .thenThrow(new OrderServiceException(PRODUCT_LOOKUP_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT));
+
+        orderIntakeWorker.processBatch();
+        assertEquals(OrderIntakeStatus.PENDING,
+                     orderIntakeService.getOrderIntake(orderIntakeDto.getIntakeId()).getStatus());
+
+        expireBackoff(orderIntakeDto.getIntakeId());
+        orderIntakeWorker.processBatch();
+        OrderIntakeDto failedIntake = orderIntakeService.getOrderIntake(orderIntakeDto.getIntakeId());
+        assertEquals(OrderIntakeStatus.FAILED, failedIntake.getStatus());
+        assertEquals(PRODUCT_LOOKUP_TIMEOUT_ERROR_CODE, failedIntake.getErrors().get(0).getStatusCode());
+        verify(orderService, times(2)).createOrders(anyList());
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - TIMED OUT CLAIM FAILED ONCE OUT OF ATTEMPTS")
+    void ProcessBatch_WorkerDies_FailedOnceOutOfAttempts() {
+        OrderIntakeDto orderIntakeDto = orderIntakeService.submitOrder(orderDtoOne);
+        when(orderService.createOrders(anyList())).thenThrow(new OutOfMemoryError("worker died"));
+
+        assertThrows(OutOfMemoryError.class, () -> orderIntakeWorker.processBatch());
+        expireClaim(orderIntakeDto.getIntakeId());
+        assertThrows(OutOfMemoryError.class, () -> orderIntakeWorker.processBatch());
+        expireClaim(orderIntakeDto.getIntakeId());
+
+        assertEquals(0, orderIntakeWorker.processBatch());
+        OrderIntakeDto failedIntake = orderIntakeService.getOrderIntake(orderIntakeDto.getIntakeId());
+        assertEquals(OrderIntakeStatus.FAILED, failedIntake.getStatus());
+        assertEquals(ORDER_INTAKE_ATTEMPTS_EXHAUSTED_ERROR_CODE, failedIntake.getErrors().get(0).getStatusCode());
+        assertEquals(0, orderIntakeWorker.processBatch());
+        verify(orderService, times(2)).createOrders(anyList());
+        assertEquals(1, meterRegistry.get("order.intake.orders").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - FAILED BATCH NOT RECLAIMED BEFORE BACKOFF")
+    void Poll_CreationFails_BatchNotReclaimedBeforeBackoff() {
+        properties.setWorkers(1);
+        properties.setBatchSize(1);
+        List<Runnable> workers = new ArrayList<>();
+        OrderIntakeWorker pooledWorker = new OrderIntakeWorker(orderIntakeRepository, orderService,
+                                                               transactionTemplate, objectMapper, new ErrorCatalogue(),
+                                                               workers::add, properties, meterRegistry);
+        OrderIntakeDto orderIntakeDto = orderIntakeService.submitOrder(orderDtoOne);
+        when(orderService.createOrders(anyList()))
+                .thenThrow(new OrderServiceException(PRODUCT_LOOKUP_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT));
+
+        pooledWorker.poll();
+        workers.forEach(Runnable::run);
+
+        OrderIntake releasedIntake = orderIntakeRepository.findById(orderIntakeDto.getIntakeId()).orElseThrow();
+        assertEquals(OrderIntakeStatus.PENDING, releasedIntake.getStatus());
+        assertTrue(releasedIntake.getNextAttemptDate().isAfter(LocalDateTime.now()));
+        assertEquals(0, orderIntakeWorker.processBatch());
+        verify(orderService, times(1)).createOrders(anyList());
+
+        expireBackoff(orderIntakeDto.getIntakeId());
+        orderIntakeWorker.processBatch();
+        verify(orderService, times(2)).createOrders(anyList());
+    }
+
+    @Test
+    @DisplayName("ORDER INTAKE - FULL INTAKE REFUSES ORDERS")
+    void SubmitOrder_IntakeFull_ServiceUnavailable() {
+        orderIntakeService.submitOrder(orderDtoOne);
+        orderIntakeService.submitOrder(orderDtoTwo);
+
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                                                       () -> orderIntakeService.submitOrder(orderDtoOne));
+        assertEquals(ORDER_INTAKE_FULL, exception.getMessage());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(ORDER_INTAKE_FULL_ERROR_CODE,
+                     new ErrorCatalogue().getErrorDto(exception.getMessage()).getStatusCode());
+    }
+
+    private void expireClaim(Long intakeId) {
+        OrderIntake orderIntake = orderIntakeRepository.findById(intakeId).orElseThrow();
+        orderIntake.setClaimedDate(LocalDateTime.now().minus(properties.getClaimTimeout()).minusSeconds(1));
+        orderIntakeRepository.saveAndFlush(orderIntake);
+    }
+
+    private void expireBackoff(Long intakeId) {
+        OrderIntake orderIntake = orderIntakeRepository.findById(intakeId).orElseThrow();
+        orderIntake.setNextAttemptDate(LocalDateTime.now().minusSeconds(1));
+        orderIntakeRepository.saveAndFlush(orderIntake);
+    }
+}
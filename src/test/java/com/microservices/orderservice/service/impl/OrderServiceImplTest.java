@@ -1,24 +1,51 @@
 package com.microservices.orderservice.service.impl;
 
+import com.microservices.orderservice.config.DeleteMode;
+import com.microservices.orderservice.config.OrderQueryProperties;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto;
+import com.microservices.orderservice.dto.OrderBatchItemResultDto.Status;
+import com.microservices.orderservice.dto.OrderBatchResultDto;
 import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.dto.OrderPageDto;
 import com.microservices.orderservice.dto.ProductDto;
 import com.microservices.orderservice.entity.Order;
+import com.microservices.orderservice.exception.ErrorCatalogue;
 import com.microservices.orderservice.exception.OrderServiceException;
-import com.microservices.orderservice.proxy.ProductServiceProxy;
 import com.microservices.orderservice.repository.OrderRepository;
+import com.microservices.orderservice.service.OrderEventOutbox;
+import com.microservices.orderservice.service.ProductPriceResolver;
+import com.microservices.orderservice.service.ProductPriceResolver.ProductLookup;
 import com.microservices.orderservice.service.mapper.OrderLineMapper;
+import com.microservices.orderservice.service.mapper.OrderLineMapperImpl;
 import com.microservices.orderservice.service.mapper.OrderMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.microservices.orderservice.utility.ErrorCodeConstant.CREATE_ORDERS_PERSIST_FAILED_ERROR_CODE;
+import static com.microservices.orderservice.utility.ErrorCodeConstant.CREATE_ORDERS_PRODUCT_LOOKUP_FAILED_ERROR_CODE;
+import static com.microservices.orderservice.utility.ErrorCodeConstant.CREATE_ORDERS_PRODUCT_NOT_FOUND_ERROR_CODE;
+import static com.microservices.orderservice.utility.ExceptionConstant.CREATE_ORDERS_INVALID_BATCH_SIZE;
+import static com.microservices.orderservice.utility.ExceptionConstant.CREATE_ORDER_PRODUCT_NOT_FOUND;
 import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,38 +59,92 @@ class OrderServiceImplTest {
     @Mock
     private OrderLineMapper orderLineMapper;
     @Mock
-    private ProductServiceProxy productServiceProxy;
+    private ProductPriceResolver productPriceResolver;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+    @Spy
+    private OrderQueryProperties orderQueryProperties = new OrderQueryProperties();
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Spy
+    private ErrorCatalogue errorCatalogue = new ErrorCatalogue();
     @InjectMocks
     private OrderServiceImpl orderService;
 
     @Test
     @DisplayName("GET ALL ORDERS - SUCCESS")
     void GetAllOrders_ReturnOrderList() {
-        when(orderRepository.findAll()).thenReturn(orderList);
+        when(orderRepository.findOrderIdsAfter(0L, Limit.of(101))).thenReturn(List.of(ORDER_ID_ONE, ORDER_ID_TWO));
+        when(orderRepository.findWithOrderLinesByOrderIdInOrderByOrderIdAsc(List.of(ORDER_ID_ONE, ORDER_ID_TWO)))
+                .thenReturn(orderList);
         when(orderMapper.orderListToOrderDtoList(orderList)).thenReturn(expectedOrderListDto);
 
-        List<OrderDto> actualOrderList = orderService.getAllOrders();
+        OrderPageDto actualOrderPage = orderService.getAllOrders(null, null);
+
+        assertNotNull(actualOrderPage);
+        assertIterableEquals(expectedOrderListDto, actualOrderPage.getOrderDtoList());
+        assertNull(actualOrderPage.getNextOrderId());
+        verify(orderRepository, times(1)).findOrderIdsAfter(anyLong(), any(Limit.class));
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderIdInOrderByOrderIdAsc(anyCollection());
+    }
+
+    @Test
+    @DisplayName("GET ALL ORDERS - MORE ORDERS AVAILABLE")
+    void GetAllOrders_MoreOrdersAvailable_ReturnNextOrderId() {
+        when(orderRepository.findOrderIdsAfter(0L, Limit.of(2))).thenReturn(List.of(ORDER_ID_ONE, ORDER_ID_TWO));
+        when(orderRepository.findWithOrderLinesByOrderIdInOrderByOrderIdAsc(List.of(ORDER_ID_ONE)))
+                .thenReturn(List.of(orderOne));
+        when(orderMapper.orderListToOrderDtoList(List.of(orderOne))).thenReturn(List.of(orderDtoOne));
+
+        OrderPageDto actualOrderPage = orderService.getAllOrders(0L, 1);
 
-        assertNotNull(actualOrderList);
-        assertIterableEquals(expectedOrderListDto, actualOrderList);
-        verify(orderRepository, times(1)).findAll();
+        assertIterableEquals(List.of(orderDtoOne), actualOrderPage.getOrderDtoList());
+        assertEquals(ORDER_ID_ONE, actualOrderPage.getNextOrderId());
+    }
+
+    @Test
+    @DisplayName("GET ALL ORDERS - PAGE SIZE CAPPED")
+    void GetAllOrders_PageSizeAboveMaximum_PageSizeCapped() {
+        when(orderRepository.findOrderIdsAfter(ORDER_ID_ONE, Limit.of(1001))).thenReturn(List.of(ORDER_ID_TWO));
+
+        orderService.getAllOrders(ORDER_ID_ONE, 1_000_000);
+
+        verify(orderRepository, times(1)).findOrderIdsAfter(ORDER_ID_ONE, Limit.of(1001));
     }
 
     @Test
     @DisplayName("GET ALL ORDERS - EMPTY ORDER LIST")
     void GetAllOrders_EmptyOrderList_ExceptionThrown() {
-        when(orderRepository.findAll()).thenReturn(Collections.emptyList());
-        assertThrows(OrderServiceException.class, () -> orderService.getAllOrders());
-        verify(orderRepository, times(1)).findAll();
+        when(orderRepository.findOrderIdsAfter(anyLong(), any(Limit.class))).thenReturn(Collections.emptyList());
+        assertThrows(OrderServiceException.class, () -> orderService.getAllOrders(null, null));
+        verify(orderRepository, times(1)).findOrderIdsAfter(anyLong(), any(Limit.class));
+        verify(orderRepository, never()).findWithOrderLinesByOrderIdInOrderByOrderIdAsc(anyCollection());
+    }
+
+    @Test
+    @DisplayName("STREAM ALL ORDERS - SUCCESS")
+    void StreamAllOrders_ConsumerReceivesEveryOrder() {
+        when(orderRepository.streamAllOrders()).thenReturn(orderList.stream());
+        when(orderMapper.orderToOrderDto(orderOne)).thenReturn(orderDtoOne);
+        when(orderMapper.orderToOrderDto(orderTwo)).thenReturn(orderDtoTwo);
+
+        List<OrderDto> streamedOrderDtoList = new ArrayList<>();
+        orderService.streamAllOrders(streamedOrderDtoList::add);
+
+        assertIterableEquals(expectedOrderListDto, streamedOrderDtoList);
+        verify(entityManager, times(2)).detach(any(Order.class));
     }
 
     @Test
     @DisplayName("CREATE ORDER - SUCCESS")
     void CreateOrder_ReturnCreatedOrder() {
-        ResponseEntity<ProductDto> responseEntityOne = ResponseEntity.ok(productDtoOne);
-        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenReturn(responseEntityOne);
-        ResponseEntity<ProductDto> responseEntityTwo = ResponseEntity.ok(productDtoTwo);
-        when(productServiceProxy.getProductById(PRODUCT_ID_TWO)).thenReturn(responseEntityTwo);
+        Map<Long, ProductDto> products = Map.of(PRODUCT_ID_ONE, productDtoOne, PRODUCT_ID_TWO, productDtoTwo);
+        when(productPriceResolver.resolveProducts(List.of(ORDER_LINE_PRODUCT_ID_ONE, ORDER_LINE_PRODUCT_ID_TWO)))
+                .thenReturn(products);
 
         when(orderRepository.save(orderOne)).thenReturn(orderOne);
         when(orderMapper.orderDtoToOrder(orderDtoOne)).thenReturn(orderOne);
@@ -73,66 +154,236 @@ class OrderServiceImplTest {
 
         assertNotNull(actualOrderResponseDto);
         assertEquals(expectedOrderDto, actualOrderResponseDto);
+        verify(productPriceResolver, times(1)).resolveProducts(anyCollection());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderEventOutbox, times(1)).recordOrderCreated(orderDtoOne);
+    }
+
+    @Test
+    @DisplayName("CREATE ORDER - UNKNOWN PRODUCT")
+    void CreateOrder_UnknownProduct_ExceptionThrown() {
+        when(productPriceResolver.resolveProducts(List.of(ORDER_LINE_PRODUCT_ID_ONE, ORDER_LINE_PRODUCT_ID_TWO)))
+                .thenReturn(Map.of(PRODUCT_ID_ONE, productDtoOne));
+
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                () -> orderService.createOrder(orderDtoOne));
+
+        assertEquals(CREATE_ORDER_PRODUCT_NOT_FOUND, exception.getMessage());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getHttpStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderEventOutbox, never()).recordOrderCreated(any(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - VALID ORDERS CREATED, INVALID ORDERS REPORTED")
+    void CreateOrders_MixedBatch_ValidOrdersCreated() {
+        OrderDto validOrderDto = newOrderDto(PRODUCT_ID_ONE, PRODUCT_ID_TWO);
+        OrderDto invalidOrderDto = new OrderDto(0L, null, null, 0L, List.of());
+        Order validOrder = new Order();
+        when(productPriceResolver.lookupProducts(List.of(PRODUCT_ID_ONE, PRODUCT_ID_TWO)))
+                .thenReturn(Map.of(PRODUCT_ID_ONE, new ProductLookup(productDtoOne, null),
+                                   PRODUCT_ID_TWO, new ProductLookup(productDtoTwo, null)));
+        runTransactionCallbacks();
+        when(orderMapper.orderDtoToOrder(validOrderDto)).thenReturn(validOrder);
+        when(orderLineMapper.orderLineDtoListToOrderLineList(validOrderDto.getOrderLineDtoList()))
+                .thenAnswer(invocation -> new OrderLineMapperImpl().orderLineDtoListToOrderLineList(invocation.getArgument(0)));
+        when(orderRepository.saveAll(List.of(validOrder))).thenReturn(List.of(validOrder));
+        when(orderMapper.orderToOrderDto(validOrder)).thenReturn(orderDtoOne);
+
+        OrderBatchResultDto result = orderService.createOrders(Arrays.asList(validOrderDto, invalidOrderDto, null));
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(2, result.getFailedCount());
+        assertEquals(List.of(Status.CREATED, Status.INVALID, Status.INVALID),
+                     result.getResults().stream().map(OrderBatchItemResultDto::getStatus).toList());
+        assertEquals(orderDtoOne, result.getResults().get(0).getOrderDto());
+        assertEquals(PRODUCT_PRICE_ONE + PRODUCT_PRICE_TWO, validOrderDto.getTotalPrice());
+        assertEquals(PRODUCT_PRICE_ONE, validOrder.getOrderLineList().get(0).getUnitPrice());
+        assertEquals(productDtoTwo.getProductName(), validOrder.getOrderLineList().get(1).getProductName());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getResults().get(1).getErrors().get(0).getStatusCode());
+        verify(productPriceResolver, times(1)).lookupProducts(anyCollection());
+        verify(orderEventOutbox, times(1)).recordOrderCreated(orderDtoOne);
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - ORDERS WITH UNKNOWN OR FAILED PRODUCTS REPORTED, OTHERS CREATED")
+    void CreateOrders_UnknownAndFailedProducts_OnlyAffectedOrdersReported() {
+        Long unknownProductId = 999L;
+        OrderDto knownOrderDto = newOrderDto(PRODUCT_ID_ONE);
+        OrderDto unknownOrderDto = newOrderDto(PRODUCT_ID_ONE, unknownProductId);
+        OrderDto failedOrderDto = newOrderDto(PRODUCT_ID_TWO);
+        Order knownOrder = new Order();
+        when(productPriceResolver.lookupProducts(anyCollection())).thenReturn(Map.of(
+                PRODUCT_ID_ONE, new ProductLookup(productDtoOne, null),
+                unknownProductId, new ProductLookup(null, null),
+                PRODUCT_ID_TWO, new ProductLookup(null, new IllegalStateException("bad request"))));
+        runTransactionCallbacks();
+        when(orderMapper.orderDtoToOrder(knownOrderDto)).thenReturn(knownOrder);
+        when(orderRepository.saveAll(List.of(knownOrder))).thenReturn(List.of(knownOrder));
+        when(orderMapper.orderToOrderDto(knownOrder)).thenReturn(orderDtoOne);
+
+        OrderBatchResultDto result = orderService.createOrders(List.of(knownOrderDto, unknownOrderDto, failedOrderDto));
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(List.of(Status.CREATED, Status.INVALID, Status.FAILED),
+                     result.getResults().stream().map(OrderBatchItemResultDto::getStatus).toList());
+        assertEquals(CREATE_ORDERS_PRODUCT_NOT_FOUND_ERROR_CODE,
+                     result.getResults().get(1).getErrors().get(0).getStatusCode());
+        assertEquals(CREATE_ORDERS_PRODUCT_LOOKUP_FAILED_ERROR_CODE,
+                     result.getResults().get(2).getErrors().get(0).getStatusCode());
+        verify(orderRepository, times(1)).saveAll(List.of(knownOrder));
+        verify(orderEventOutbox, times(1)).recordOrderCreated(orderDtoOne);
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - FAILED CHUNK SAVED ONE ORDER AT A TIME")
+    void CreateOrders_ChunkFails_OrdersSavedIndividually() {
+        OrderDto firstOrderDto = newOrderDto(PRODUCT_ID_ONE);
+        OrderDto secondOrderDto = newOrderDto(PRODUCT_ID_TWO);
+        Order firstOrder = new Order();
+        Order secondOrder = new Order();
+        secondOrder.setTotalPrice(-1);
+        when(productPriceResolver.lookupProducts(anyCollection()))
+                .thenReturn(Map.of(PRODUCT_ID_ONE, new ProductLookup(productDtoOne, null),
+                                   PRODUCT_ID_TWO, new ProductLookup(productDtoTwo, null)));
+        runTransactionCallbacks();
+        when(orderMapper.orderDtoToOrder(firstOrderDto)).thenReturn(firstOrder);
+        when(orderMapper.orderDtoToOrder(secondOrderDto)).thenReturn(secondOrder);
+        when(orderRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("constraint"));
+        when(orderRepository.save(firstOrder)).thenReturn(firstOrder);
+        when(orderRepository.save(secondOrder)).thenThrow(new DataIntegrityViolationException("constraint"));
+        when(orderMapper.orderToOrderDto(firstOrder)).thenReturn(orderDtoOne);
+
+        OrderBatchResultDto result = orderService.createOrders(List.of(firstOrderDto, secondOrderDto));
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(Status.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(Status.FAILED, result.getResults().get(1).getStatus());
+        assertEquals(CREATE_ORDERS_PERSIST_FAILED_ERROR_CODE,
+                     result.getResults().get(1).getErrors().get(0).getStatusCode());
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(orderEventOutbox, times(1)).recordOrderCreated(orderDtoOne);
+    }
+
+    @Test
+    @DisplayName("CREATE ORDERS - BATCH TOO LARGE")
+    void CreateOrders_BatchTooLarge_ExceptionThrown() {
+        orderQueryProperties.getBatch().setMaxSize(1);
+        List<OrderDto> orderDtoList = List.of(newOrderDto(PRODUCT_ID_ONE), newOrderDto(PRODUCT_ID_TWO));
+
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                () -> orderService.createOrders(orderDtoList));
+
+        assertEquals(CREATE_ORDERS_INVALID_BATCH_SIZE, exception.getMessage());
+        verify(productPriceResolver, never()).lookupProducts(anyCollection());
+        verify(orderRepository, never()).saveAll(anyList());
     }
 
     @Test
     @DisplayName("GET ORDER BY ID - SUCCESS")
     void GetOrderById_ReturnFetchedOrder() {
-        when(orderRepository.findById(ORDER_ID_ONE)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(order));
         when(orderMapper.orderToOrderDto(order)).thenReturn(orderDto);
 
         OrderDto actualOrderResponseDto = orderService.getOrderById(ORDER_ID_ONE);
 
         assertNotNull(actualOrderResponseDto);
         assertEquals(expectedOrderDto, actualOrderResponseDto);
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
     }
 
     @Test
     @DisplayName("GET ORDER BY ID - INVALID INPUT")
     void GetOrderById_InvalidInput_ExceptionThrown() {
-        when(orderRepository.findById(INVALID_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findWithOrderLinesByOrderId(INVALID_ORDER_ID)).thenReturn(Optional.empty());
         assertThrows(OrderServiceException.class, () -> orderService.getOrderById(INVALID_ORDER_ID));
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
     }
 
     @Test
     @DisplayName("GET ORDER BY ID - NON EXISTENT ORDER")
     void GetOrderById_NonExistentOrder_ExceptionThrown() {
-        when(orderRepository.findById(NON_EXISTENT_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findWithOrderLinesByOrderId(NON_EXISTENT_ORDER_ID)).thenReturn(Optional.empty());
         assertThrows(OrderServiceException.class, () -> orderService.getOrderById(NON_EXISTENT_ORDER_ID));
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
     }
 
     @Test
     @DisplayName("DELETE ORDER BY ID - SUCCESS")
     void DeleteOrderById_ReturnDeletedOrder() {
-        when(orderRepository.findById(ORDER_ID_ONE)).thenReturn(Optional.of(order));
-        doNothing().when(orderRepository).deleteById(ORDER_ID_ONE);
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(order));
         when(orderMapper.orderToOrderDto(order)).thenReturn(orderDto);
+        when(orderRepository.deleteOrderByOrderId(ORDER_ID_ONE)).thenReturn(1);
 
         OrderDto actualOrderResponseDto = orderService.deleteOrderById(ORDER_ID_ONE);
 
         assertNotNull(actualOrderResponseDto);
         assertEquals(expectedOrderDto, actualOrderResponseDto);
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
+        verify(orderRepository, times(1)).deleteOrderLinesByOrderId(ORDER_ID_ONE);
+        verify(orderRepository, times(1)).deleteOrderByOrderId(ORDER_ID_ONE);
+        verify(orderRepository, never()).softDeleteByOrderId(anyLong(), any());
+        verify(orderEventOutbox, times(1)).recordOrderDeleted(orderDto);
+    }
+
+    @Test
+    @DisplayName("DELETE ORDER BY ID - SOFT DELETE")
+    void DeleteOrderById_SoftDeleteMode_OrderFlagged() {
+        orderQueryProperties.setDeleteMode(DeleteMode.SOFT);
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(order));
+        when(orderMapper.orderToOrderDto(order)).thenReturn(orderDto);
+        when(orderRepository.softDeleteByOrderId(eq(ORDER_ID_ONE), any())).thenReturn(1);
+
+        OrderDto actualOrderResponseDto = orderService.deleteOrderById(ORDER_ID_ONE);
+
+        assertEquals(expectedOrderDto, actualOrderResponseDto);
+        verify(orderRepository, times(1)).softDeleteByOrderId(eq(ORDER_ID_ONE), any());
+        verify(orderRepository, never()).deleteOrderLinesByOrderId(anyLong());
+        verify(orderRepository, never()).deleteOrderByOrderId(anyLong());
     }
 
     @Test
     @DisplayName("DELETE ORDER BY ID - INVALID INPUT")
     void DeleteOrderById_InvalidInput_ExceptionThrown() {
-        when(orderRepository.findById(INVALID_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findWithOrderLinesByOrderId(INVALID_ORDER_ID)).thenReturn(Optional.empty());
         assertThrows(OrderServiceException.class, () -> orderService.deleteOrderById(INVALID_ORDER_ID));
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
     }
 
     @Test
     @DisplayName("DELETE ORDER BY ID - NON EXISTENT ORDER")
     void DeleteOrderById_NonExistentOrder_ExceptionThrown() {
-        when(orderRepository.findById(NON_EXISTENT_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findWithOrderLinesByOrderId(NON_EXISTENT_ORDER_ID)).thenReturn(Optional.empty());
         assertThrows(OrderServiceException.class, () -> orderService.deleteOrderById(NON_EXISTENT_ORDER_ID));
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findWithOrderLinesByOrderId(anyLong());
+        verify(orderEventOutbox, never()).recordOrderDeleted(any());
     }
 
+    @Test
+    @DisplayName("DELETE ORDER BY ID - DELETED CONCURRENTLY")
+    void DeleteOrderById_OrderDeletedConcurrently_ExceptionThrown() {
+        when(orderRepository.findWithOrderLinesByOrderId(ORDER_ID_ONE)).thenReturn(Optional.of(order));
+        when(orderMapper.orderToOrderDto(order)).thenReturn(orderDto);
+        when(orderRepository.deleteOrderByOrderId(ORDER_ID_ONE)).thenReturn(0);
+
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                () -> orderService.deleteOrderById(ORDER_ID_ONE));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        verify(orderEventOutbox, never()).recordOrderDeleted(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private static OrderDto newOrderDto(Long... productIds) {
+        List<OrderLineDto> orderLineDtoList = Arrays.stream(productIds)
+                .map(productId -> new OrderLineDto(null, productId, 1, null, null, null))
+                .toList();
+        return new OrderDto(0L, null, null, 0L, orderLineDtoList);
+    }
 }
@@ -0,0 +1,66 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.OrderStatsProperties;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.ORDER_STATS_INVALID_RANGE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatsServiceImplTest {
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+    private final OrderStatsProperties orderStatsProperties = new OrderStatsProperties();
+    private OrderStatsServiceImpl orderStatsService;
+
+    @BeforeEach
+    void setUp() {
+        orderStatsService = new OrderStatsServiceImpl(orderRepository, orderStatsProperties);
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - PERIOD CONVERTED TO HALF-OPEN RANGE")
+    void GetDailyOrderStats_OneDay_WholeDayQueried() {
+        orderStatsService.getDailyOrderStats(FROM, FROM);
+
+        verify(orderRepository, times(1)).findDailyOrderStats(FROM.atStartOfDay(), FROM.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - TOP PRODUCTS LIMIT CAPPED")
+    void GetTopProducts_LimitAboveMaximum_MaximumQueried() {
+        orderStatsService.getTopProducts(FROM, FROM.plusDays(6), 10_000);
+
+        verify(orderRepository, times(1)).findTopProductSales(FROM.atStartOfDay(), FROM.plusDays(7).atStartOfDay(),
+                                                              Limit.of(orderStatsProperties.getMaxTopProducts()));
+    }
+
+    @Test
+    @DisplayName("ORDER STATS - INVALID PERIOD REJECTED")
+    void GetDailyOrderStats_InvalidPeriod_ExceptionThrown() {
+        OrderServiceException reversed = assertThrows(OrderServiceException.class,
+                () -> orderStatsService.getDailyOrderStats(FROM, FROM.minusDays(1)));
+        OrderServiceException tooLong = assertThrows(OrderServiceException.class,
+                () -> orderStatsService.getTopProducts(FROM, FROM.plusDays(orderStatsProperties.getMaxRangeDays()), null));
+
+        assertEquals(ORDER_STATS_INVALID_RANGE, reversed.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, tooLong.getHttpStatus());
+        verify(orderRepository, never()).findDailyOrderStats(any(), any());
+        verify(orderRepository, never()).findTopProductSales(any(), any(), any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.microservices.orderservice.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.OrderDto;
+import com.microservices.orderservice.dto.OrderEventDto;
+import com.microservices.orderservice.dto.OrderEventType;
+import com.microservices.orderservice.dto.OrderLineDto;
+import com.microservices.orderservice.repository.OutboxEventRepository;
+import com.microservices.orderservice.service.OrderEventSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                          "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+class OutboxRelayTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        JpaOrderEventOutbox orderEventOutbox = new JpaOrderEventOutbox(outboxEventRepository, objectMapper);
+        orderEventOutbox.recordOrderCreated(orderDtoOne);
+        orderEventOutbox.recordOrderCreated(orderDtoTwo);
+        orderEventOutbox.recordOrderDeleted(orderDtoOne);
+    }
+
+    @Test
+    @DisplayName("OUTBOX RELAY - EVENTS PUBLISHED IN ORDER AND DELETED")
+    void Relay_RecordedEvents_PublishedInBatchesAndDeleted() throws IOException {
+        InMemoryOrderEventSink orderEventSink = new InMemoryOrderEventSink();
+
+        newOutboxRelay(orderEventSink).relay();
+
+        List<OrderEventDto> publishedEvents = orderEventSink.getPublishedEvents();
+        assertEquals(List.of(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_CREATED, OrderEventType.ORDER_DELETED),
+                     publishedEvents.stream().map(OrderEventDto::getEventType).toList());
+        assertEquals(List.of(ORDER_ID_ONE, ORDER_ID_TWO, ORDER_ID_ONE),
+                     publishedEvents.stream().map(OrderEventDto::getOrderId).toList());
+        assertEquals(ORDER_TOTAL_PRICE_TWO, objectMapper.readValue(publishedEvents.get(1).getPayload(),
+                                                                   OrderDto.class).getTotalPrice());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(3, meterRegistry.get("order.outbox.events").tag("outcome", "published").counter().count());
+    }
+
+    @Test
+    @DisplayName("OUTBOX RELAY - FAILED BATCH KEPT AND PUBLISHED AGAIN")
+    void Relay_SinkFails_EventsPublishedOnNextRun() {
+        InMemoryOrderEventSink delegate = new InMemoryOrderEventSink();
+        AtomicBoolean available = new AtomicBoolean(false);
+        OrderEventSink orderEventSink = orderEventDtoList -> {
+            if (!available.get()) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            delegate.publish(orderEventDtoList);
+        };
+        OutboxRelay outboxRelay = newOutboxRelay(orderEventSink);
+
+        outboxRelay.relay();
+        assertEquals(3, outboxEventRepository.count());
+        assertEquals(BATCH_SIZE, meterRegistry.get("order.outbox.events").tag("outcome", "failed").counter().count());
+
+        available.set(true);
+        outboxRelay.relay();
+        assertEquals(3, delegate.getPublishedEvents().size());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    @DisplayName("OUTBOX - EVENT OF AN ORDER WITH MANY LINES KEPT WHOLE")
+    void RecordOrderCreated_ManyOrderLines_PayloadKeptWhole() throws IOException {
+        List<OrderLineDto> orderLineDtoList = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            orderLineDtoList.add(new OrderLineDto(i, i, 1, "product " + i, 100L * i, null));
+        }
+        OrderDto orderDto = new OrderDto(ORDER_ID_TWO, orderDtoOne.getCreatedDate(), orderDtoOne.getModifiedDate(),
+                                         ORDER_TOTAL_PRICE_TWO, orderLineDtoList);
+        outboxEventRepository.deleteAll();
+        new JpaOrderEventOutbox(outboxEventRepository, objectMapper).recordOrderCreated(orderDto);
+        InMemoryOrderEventSink orderEventSink = new InMemoryOrderEventSink();
+
+        newOutboxRelay(orderEventSink).relay();
+
+        String payload = orderEventSink.getPublishedEvents().get(0).getPayload();
+        assertTrue(payload.length() > 255);
+        assertTrue(payload.contains("product 50"));
+        assertEquals(orderLineDtoList.stream().map(OrderLineDto::getProductId).toList(),
+                     objectMapper.readValue(payload, OrderDto.class).getOrderLineDtoList().stream()
+                             .map(OrderLineDto::getProductId).toList());
+    }
+
+    @Test
+    @DisplayName("FILE SINK - EVENTS APPENDED AS JSON LINES")
+    void Relay_FileSink_OneLinePerEvent(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("order-events.ndjson");
+
+        newOutboxRelay(new FileOrderEventSink(file, objectMapper)).relay();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        JsonNode lastEvent = objectMapper.readTree(lines.get(2));
+        assertEquals(OrderEventType.ORDER_DELETED.name(), lastEvent.get("eventType").asText());
+        assertEquals(ORDER_ID_ONE, lastEvent.get("payload").get("orderId").asLong());
+    }
+
+    private OutboxRelay newOutboxRelay(OrderEventSink orderEventSink) {
+        return new OutboxRelay(outboxEventRepository, orderEventSink, transactionTemplate, BATCH_SIZE, meterRegistry);
+    }
+}
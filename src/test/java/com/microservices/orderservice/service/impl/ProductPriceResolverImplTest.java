@@ -0,0 +1,124 @@
+package com.microservices.orderservice.service.impl;
+
+import com.microservices.orderservice.config.ProductLookupProperties;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.proxy.ProductServiceProxy;
+import com.microservices.orderservice.service.ProductPriceResolver.ProductLookup;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_TIMEOUT;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPriceResolverImplTest {
+    private static final Long UNKNOWN_PRODUCT_ID = 999L;
+
+    @Mock
+    private ProductServiceProxy productServiceProxy;
+    private ExecutorService executor;
+    private ProductPriceResolverImpl productPriceResolver;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        ProductLookupProperties properties = new ProductLookupProperties();
+        properties.setDeadline(Duration.ofMillis(500));
+        productPriceResolver = new ProductPriceResolverImpl(new DirectProductFetcher(productServiceProxy, executor), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("RESOLVE PRODUCTS - DUPLICATE PRODUCT IDS FETCHED ONCE")
+    void ResolveProducts_DuplicateProductIds_FetchedOnce() {
+        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenReturn(ResponseEntity.ok(productDtoOne));
+        when(productServiceProxy.getProductById(PRODUCT_ID_TWO)).thenReturn(ResponseEntity.ok(productDtoTwo));
+
+        Map<Long, ProductDto> products = productPriceResolver.resolveProducts(
+                List.of(PRODUCT_ID_ONE, PRODUCT_ID_TWO, PRODUCT_ID_ONE, PRODUCT_ID_ONE));
+
+        assertEquals(Map.of(PRODUCT_ID_ONE, productDtoOne, PRODUCT_ID_TWO, productDtoTwo), products);
+        verify(productServiceProxy, times(1)).getProductById(PRODUCT_ID_ONE);
+        verify(productServiceProxy, times(1)).getProductById(PRODUCT_ID_TWO);
+    }
+
+    @Test
+    @DisplayName("RESOLVE PRODUCTS - MISSING PRODUCT SKIPPED")
+    void ResolveProducts_MissingProduct_Skipped() {
+        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenReturn(ResponseEntity.ok(productDtoOne));
+        when(productServiceProxy.getProductById(PRODUCT_ID_TWO)).thenReturn(ResponseEntity.ok().build());
+
+        Map<Long, ProductDto> products = productPriceResolver.resolveProducts(List.of(PRODUCT_ID_ONE, PRODUCT_ID_TWO));
+
+        assertEquals(Map.of(PRODUCT_ID_ONE, productDtoOne), products);
+    }
+
+    @Test
+    @DisplayName("LOOKUP PRODUCTS - OUTCOME OF EVERY PRODUCT KEPT")
+    void LookupProducts_UnknownAndFailedProducts_OutcomesKept() {
+        IllegalStateException failure = new IllegalStateException("bad request");
+        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenReturn(ResponseEntity.ok(productDtoOne));
+        when(productServiceProxy.getProductById(PRODUCT_ID_TWO)).thenThrow(failure);
+        when(productServiceProxy.getProductById(UNKNOWN_PRODUCT_ID)).thenThrow(new FeignException.NotFound(
+                "not found", Request.create(Request.HttpMethod.GET, "products/" + UNKNOWN_PRODUCT_ID, Map.of(), null,
+                                            StandardCharsets.UTF_8, null), null, Map.of()));
+
+        Map<Long, ProductLookup> productLookups = productPriceResolver.lookupProducts(
+                List.of(PRODUCT_ID_ONE, PRODUCT_ID_TWO, UNKNOWN_PRODUCT_ID));
+
+        assertEquals(new ProductLookup(productDtoOne, null), productLookups.get(PRODUCT_ID_ONE));
+        assertEquals(new ProductLookup(null, failure), productLookups.get(PRODUCT_ID_TWO));
+        assertEquals(new ProductLookup(null, null), productLookups.get(UNKNOWN_PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("RESOLVE PRODUCTS - DEADLINE EXCEEDED")
+    void ResolveProducts_DeadlineExceeded_ExceptionThrown() {
+        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return ResponseEntity.ok(productDtoOne);
+        });
+
+        List<Long> productIds = List.of(PRODUCT_ID_ONE);
+        OrderServiceException exception = assertThrows(OrderServiceException.class,
+                () -> productPriceResolver.resolveProducts(productIds));
+
+        assertEquals(PRODUCT_LOOKUP_TIMEOUT, exception.getMessage());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("RESOLVE PRODUCTS - PRODUCT SERVICE FAILURE PROPAGATED")
+    void ResolveProducts_ProductServiceFailure_ExceptionPropagated() {
+        when(productServiceProxy.getProductById(PRODUCT_ID_ONE)).thenThrow(new IllegalStateException("down"));
+
+        List<Long> productIds = List.of(PRODUCT_ID_ONE);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> productPriceResolver.resolveProducts(productIds));
+
+        assertEquals("down", exception.getMessage());
+    }
+}
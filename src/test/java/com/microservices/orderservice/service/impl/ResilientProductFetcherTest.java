@@ -0,0 +1,123 @@
+package com.microservices.orderservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.microservices.orderservice.dto.ProductDto;
+import com.microservices.orderservice.exception.OrderServiceException;
+import com.microservices.orderservice.service.ProductFetcher;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_LOOKUP_TIMEOUT;
+import static com.microservices.orderservice.utility.ExceptionConstant.PRODUCT_SERVICE_UNAVAILABLE;
+import static com.microservices.orderservice.utility.OrderDetailsConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientProductFetcherTest {
+    @Mock
+    private ProductFetcher productFetcher;
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("productService");
+    private ResilientProductFetcher resilientProductFetcher;
+
+    @BeforeEach
+    void setUp() {
+        Retry retry = Retry.of("productService", RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        TimeLimiter timeLimiter = TimeLimiter.of(Duration.ofMillis(50));
+        resilientProductFetcher = new ResilientProductFetcher(productFetcher, circuitBreaker, retry, timeLimiter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilientProductFetcher.destroy();
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - ONLY FAILED LOOKUP RETRIED")
+    void FetchProduct_LookupFailedOnce_OnlyFailedLookupRetried() {
+        when(productFetcher.fetchProduct(PRODUCT_ID_ONE))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")))
+                .thenReturn(CompletableFuture.completedFuture(productDtoOne));
+        when(productFetcher.fetchProduct(PRODUCT_ID_TWO)).thenReturn(CompletableFuture.completedFuture(productDtoTwo));
+
+        CompletableFuture<ProductDto> first = resilientProductFetcher.fetchProduct(PRODUCT_ID_ONE);
+        CompletableFuture<ProductDto> second = resilientProductFetcher.fetchProduct(PRODUCT_ID_TWO);
+
+        assertEquals(productDtoOne, first.join());
+        assertEquals(productDtoTwo, second.join());
+        verify(productFetcher, times(2)).fetchProduct(PRODUCT_ID_ONE);
+        verify(productFetcher, times(1)).fetchProduct(PRODUCT_ID_TWO);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - SLOW LOOKUP TIMED OUT AFTER RETRIES")
+    void FetchProduct_LookupTooSlow_TimeoutThrown() {
+        when(productFetcher.fetchProduct(PRODUCT_ID_ONE)).thenAnswer(invocation -> new CompletableFuture<>());
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> resilientProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+
+        OrderServiceException cause = assertInstanceOf(OrderServiceException.class, exception.getCause());
+        assertEquals(PRODUCT_LOOKUP_TIMEOUT, cause.getMessage());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, cause.getHttpStatus());
+        verify(productFetcher, times(2)).fetchProduct(PRODUCT_ID_ONE);
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - LOOKUP CANCELLED THROUGH CACHE NOT RETRIED")
+    void FetchProduct_CancelledBehindCache_NotRetried() {
+        // The retry waits long enough for the first load of the cache to return before it is due.
+        ResilientProductFetcher slowRetryFetcher = new ResilientProductFetcher(
+                productFetcher, circuitBreaker,
+                Retry.of("productService", RetryConfig.custom()
+                        .maxAttempts(2)
+                        .waitDuration(Duration.ofMillis(500))
+                        .build()),
+                TimeLimiter.of(Duration.ofMillis(50)));
+        CachingProductFetcher cachingProductFetcher = new CachingProductFetcher(
+                slowRetryFetcher, 100, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(30),
+                Runnable::run, Ticker.systemTicker());
+        when(productFetcher.fetchProduct(PRODUCT_ID_ONE))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        try {
+            assertTrue(cachingProductFetcher.fetchProduct(PRODUCT_ID_ONE).cancel(true));
+
+            verify(productFetcher, after(1000).times(1)).fetchProduct(PRODUCT_ID_ONE);
+            assertEquals(0, cachingProductFetcher.getCache().synchronous().estimatedSize());
+        } finally {
+            slowRetryFetcher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("FETCH PRODUCT - OPEN CIRCUIT FAILS WITHOUT CALLS")
+    void FetchProduct_CircuitOpen_ServiceUnavailableThrown() {
+        circuitBreaker.transitionToOpenState();
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> resilientProductFetcher.fetchProduct(PRODUCT_ID_ONE).join());
+
+        OrderServiceException cause = assertInstanceOf(OrderServiceException.class, exception.getCause());
+        assertEquals(PRODUCT_SERVICE_UNAVAILABLE, cause.getMessage());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, cause.getHttpStatus());
+        verify(productFetcher, never()).fetchProduct(anyLong());
+    }
+}
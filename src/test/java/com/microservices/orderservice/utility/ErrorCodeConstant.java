@@ -13,5 +13,44 @@ public class ErrorCodeConstant {
     public static final Integer DELETE_ORDER_BY_ID_ERROR_CODE = Integer.parseInt(PropertiesFileReader
             .getProperties("classpath:errorcode.properties")
             .getProperty("error.orderunavailable.deleteorderbyid"));
+    public static final Integer CREATE_ORDER_PRODUCT_NOT_FOUND_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.productunavailable.createorder"));
+    public static final Integer CREATE_ORDERS_INVALID_BATCH_SIZE_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.invalidbatchsize.createorders"));
+    public static final Integer CREATE_ORDERS_PERSIST_FAILED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.orderpersistfailed.createorders"));
+    public static final Integer CREATE_ORDERS_PRODUCT_NOT_FOUND_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.productunavailable.createorders"));
+    public static final Integer CREATE_ORDERS_PRODUCT_LOOKUP_FAILED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.productlookupfailed.createorders"));
+    public static final Integer ORDER_STATS_INVALID_RANGE_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.invalidrange.orderstats"));
+    public static final Integer ORDER_INTAKE_FULL_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.intakefull.submitorder"));
+    public static final Integer ORDER_INTAKE_ATTEMPTS_EXHAUSTED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.attemptsexhausted.processbatch"));
+    public static final Integer GET_ORDER_INTAKE_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.intakeunavailable.getorderintake"));
+    public static final Integer PRODUCT_LOOKUP_TIMEOUT_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.productlookuptimeout.createorder"));
+    public static final Integer CREATE_ORDER_OVERLOADED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.overloaded.createorder"));
+    public static final Integer CREATE_ORDERS_OVERLOADED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.overloaded.createorders"));
+    public static final Integer STREAM_ALL_ORDERS_REJECTED_ERROR_CODE = Integer.parseInt(PropertiesFileReader
+            .getProperties("classpath:errorcode.properties")
+            .getProperty("error.streamrejected.streamallorders"));
 
 }
@@ -13,5 +13,8 @@ public class ErrorMessageConstant {
     public static final String DELETE_ORDER_BY_ID_ERROR_MESSAGE = PropertiesFileReader
             .getProperties("classpath:messages.properties")
             .getProperty("error.orderunavailable.deleteorderbyid");
+    public static final String CREATE_ORDERS_INVALID_BATCH_SIZE_ERROR_MESSAGE = PropertiesFileReader
+            .getProperties("classpath:messages.properties")
+            .getProperty("error.invalidbatchsize.createorders");
 
 }
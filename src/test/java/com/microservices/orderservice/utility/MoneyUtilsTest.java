@@ -0,0 +1,49 @@
+package com.microservices.orderservice.utility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.orderservice.dto.ProductDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyUtilsTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("LINE TOTAL - EXACT IN MINOR UNITS")
+    void LineTotal_ThousandLines_TotalExact() {
+        long minorUnitsTotal = 0;
+        double doubleTotal = 0;
+        for (int i = 0; i < 1000; i++) {
+            minorUnitsTotal = Math.addExact(minorUnitsTotal, MoneyUtils.lineTotal(MoneyUtils.toMinorUnits(new BigDecimal("0.10")), 3));
+            doubleTotal += 0.10 * 3;
+        }
+
+        assertEquals(new BigDecimal("300.00"), MoneyUtils.toDecimal(minorUnitsTotal));
+        assertNotEquals(300.0, doubleTotal);
+        assertThrows(ArithmeticException.class, () -> MoneyUtils.lineTotal(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    @DisplayName("TO MINOR UNITS - ROUNDED HALF EVEN")
+    void ToMinorUnits_ExtraDigits_RoundedHalfEven() {
+        assertEquals(1234L, MoneyUtils.toMinorUnits(new BigDecimal("12.345")));
+        assertEquals(1236L, MoneyUtils.toMinorUnits(new BigDecimal("12.355")));
+        assertEquals(1200L, MoneyUtils.toMinorUnits(new BigDecimal("12")));
+    }
+
+    @Test
+    @DisplayName("JSON - PRICE EXCHANGED IN CURRENCY UNITS")
+    void Json_DecimalPrice_ReadAsMinorUnits() throws Exception {
+        ProductDto productDto = objectMapper.readValue(
+                "{\"productId\":1,\"productName\":\"Product\",\"productPrice\":19.99}", ProductDto.class);
+
+        assertEquals(1999L, productDto.getProductPrice());
+        assertEquals("{\"productId\":1,\"productName\":\"Product\",\"productPrice\":19.99}",
+                     objectMapper.writeValueAsString(productDto));
+        assertEquals(1999L, objectMapper.readValue("{\"productPrice\":\"19.99\"}", ProductDto.class).getProductPrice());
+    }
+}